@@ -0,0 +1,76 @@
+package kr.co.jparangdev.application.comment;
+
+import kr.co.jparangdev.application.common.cache.CacheAside;
+import kr.co.jparangdev.application.common.exception.ValidationException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * Comment cleanup use case implementation.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CommentCleanupService implements CommentCleanupUseCase {
+
+    private static final int DELETE_BATCH_SIZE = 1000;
+    private static final long THROTTLE_MILLIS = 50;
+    private static final int ORPHAN_SCAN_SIZE = 100;
+
+    private final CommentRepository commentRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final CacheAside cacheAside;
+
+    @Override
+    public int deleteCommentsOfPost(Long postId) {
+        if (postId == null) {
+            throw new ValidationException("postId", "cannot be null");
+        }
+
+        int total = 0;
+        int deleted;
+        do {
+            Integer result = transactionTemplate.execute(status ->
+                    commentRepository.deleteByPostId(postId, DELETE_BATCH_SIZE));
+            deleted = result != null ? result : 0;
+            total += deleted;
+
+            if (deleted == DELETE_BATCH_SIZE) {
+                pause();
+            }
+        } while (deleted == DELETE_BATCH_SIZE);
+
+        if (total > 0) {
+            cacheAside.bumpVersion(CommentService.feedVersionKey(postId), CommentService.FEED_VERSION_TTL);
+        }
+
+        log.info("Deleted {} comments of post {}", total, postId);
+        return total;
+    }
+
+    @Override
+    public int deleteOrphanedComments() {
+        int total = 0;
+        List<Long> postIds;
+        do {
+            postIds = transactionTemplate.execute(status -> commentRepository.findOrphanedPostIds(ORPHAN_SCAN_SIZE));
+            for (Long postId : postIds) {
+                total += deleteCommentsOfPost(postId);
+            }
+        } while (postIds.size() == ORPHAN_SCAN_SIZE);
+        return total;
+    }
+
+    private void pause() {
+        try {
+            Thread.sleep(THROTTLE_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while deleting comments", e);
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package kr.co.jparangdev.application.comment;
+
+/**
+ * Removes comments left behind by deleted posts.
+ */
+public interface CommentCleanupUseCase {
+    /**
+     * Deletes every comment of the given post in bounded batches, pausing between
+     * batches so the deletion never holds locks for long or floods replication.
+     * Safe to repeat for the same post.
+     *
+     * @return the number of comments deleted
+     */
+    int deleteCommentsOfPost(Long postId);
+
+    /**
+     * Deletes the comments of every post that no longer exists, catching posts whose
+     * deletion event was never published or consumed.
+     *
+     * @return the number of comments deleted
+     */
+    int deleteOrphanedComments();
+}
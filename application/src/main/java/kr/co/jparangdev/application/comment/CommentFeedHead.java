@@ -0,0 +1,19 @@
+package kr.co.jparangdev.application.comment;
+
+import kr.co.jparangdev.application.common.pagination.CursorPage;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Newest comments of a post as cached for first-page reads. Holds up to
+ * {@link CursorPage#MAX_LIMIT} + 1 comments, enough to serve any first page and tell whether it has a next one.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CommentFeedHead {
+    private List<CommentDto> comments;
+}
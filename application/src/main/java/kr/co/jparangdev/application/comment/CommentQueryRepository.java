@@ -0,0 +1,16 @@
+package kr.co.jparangdev.application.comment;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Read-side comment port that returns DTOs directly, without loading entities or domain objects.
+ */
+public interface CommentQueryRepository {
+    /**
+     * Returns up to {@code limit} comments of a post, newest first (by created time, then id).
+     * When {@code beforeCreatedAt} and {@code beforeId} are given, only comments strictly
+     * after that position in this order are returned.
+     */
+    List<CommentDto> findFeedByPostId(Long postId, LocalDateTime beforeCreatedAt, Long beforeId, int limit);
+}
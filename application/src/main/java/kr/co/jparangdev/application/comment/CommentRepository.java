@@ -4,6 +4,7 @@ import kr.co.jparangdev.domain.comment.Comment;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 /**
  * Comment repository port interface.
@@ -11,9 +12,37 @@ import java.util.Optional;
 public interface CommentRepository {
     Comment save(Comment comment);
 
+    List<Comment> saveAll(List<Comment> comments);
+
     Optional<Comment> findById(Long id);
 
-    List<Comment> findByPostId(Long postId);
+    /**
+     * Reads only the post a comment belongs to.
+     */
+    Optional<Long> findPostIdById(Long id);
+
+    /**
+     * Deletes the comment with one statement, without loading it first.
+     *
+     * @return the number of rows deleted, 0 if no such comment exists
+     */
+    int deleteById(Long id);
+
+    /**
+     * Deletes at most {@code limit} comments of the given post in one statement.
+     *
+     * @return the number of comments deleted; less than {@code limit} once none remain
+     */
+    int deleteByPostId(Long postId, int limit);
+
+    /**
+     * Finds at most {@code limit} posts that no longer exist but still have comments.
+     */
+    List<Long> findOrphanedPostIds(int limit);
 
-    void deleteById(Long id);
+    /**
+     * Streams every comment in id order without loading the table into memory.
+     * Must be called inside a transaction so the rows can be read through a cursor.
+     */
+    void streamAll(Consumer<Comment> action);
 }
@@ -1,14 +1,26 @@
 package kr.co.jparangdev.application.comment;
 
+import kr.co.jparangdev.application.common.bulk.BulkItemResult;
+import kr.co.jparangdev.application.common.bulk.BulkProcessor;
+import kr.co.jparangdev.application.common.cache.CacheAside;
+import kr.co.jparangdev.application.common.cache.NegativeCache;
 import kr.co.jparangdev.application.common.exception.NotFoundException;
 import kr.co.jparangdev.application.common.exception.ValidationException;
+import kr.co.jparangdev.application.common.pagination.CursorPage;
+import kr.co.jparangdev.application.common.pagination.TimestampIdCursor;
+import kr.co.jparangdev.application.post.PostExistenceIndex;
+import kr.co.jparangdev.application.user.UserExistenceIndex;
 import kr.co.jparangdev.domain.comment.Comment;
 import lombok.RequiredArgsConstructor;
 
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.Duration;
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
 
 /**
  * Comment use case implementation.
@@ -17,27 +29,68 @@ import java.util.List;
 @RequiredArgsConstructor
 public class CommentService implements CommentUseCase {
 
+    private static final String CACHE_KEY_PREFIX = "comment:";
+    private static final String FEED_KEY_PREFIX = "comments:post:";
+    /**
+     * Kept apart from {@link #FEED_KEY_PREFIX} so caches holding feed entries locally can leave
+     * the version token, which must be read fresh after every write, to the shared cache.
+     */
+    private static final String FEED_VERSION_KEY_PREFIX = "comments:version:post:";
+    private static final Duration FEED_TTL = Duration.ofMinutes(10);
+    /** Outlives every feed entry keyed under it, see {@link CacheAside#bumpVersion}. */
+    static final Duration FEED_VERSION_TTL = Duration.ofDays(1);
+
     private final CommentRepository commentRepository;
+    private final CommentQueryRepository commentQueryRepository;
+    private final NegativeCache negativeCache;
+    private final CacheAside cacheAside;
+    private final PostExistenceIndex postExistenceIndex;
+    private final UserExistenceIndex userExistenceIndex;
     private final TransactionTemplate transactionTemplate;
+    @Qualifier("readOnlyTransactionTemplate")
     private final TransactionTemplate readOnlyTransactionTemplate;
+    @Qualifier("primaryReadTransactionTemplate")
+    private final TransactionTemplate primaryReadTransactionTemplate;
 
     @Override
     public CommentDto createComment(CreateCommentCommand command) {
         validateCreateCommentCommand(command);
+        validateReferences(command);
 
-        return transactionTemplate.execute(status -> {
+        CommentDto created = transactionTemplate.execute(status -> {
             try {
                 Comment comment = new Comment(
                         command.getContent(),
                         command.getPostId(),
                         command.getAuthorId());
                 Comment savedComment = commentRepository.save(comment);
+                invalidateFeed(savedComment.getPostId());
                 return CommentDto.from(savedComment);
             } catch (IllegalArgumentException e) {
                 status.setRollbackOnly();
                 throw new ValidationException(e.getMessage());
             }
         });
+        negativeCache.evict(cacheKey(created.getId()));
+        return created;
+    }
+
+    @Override
+    public List<BulkItemResult<CommentDto>> createComments(List<CreateCommentCommand> commands) {
+        return BulkProcessor.process(
+                commands,
+                command -> {
+                    validateCreateCommentCommand(command);
+                    validateReferences(command);
+                    return new Comment(command.getContent(), command.getPostId(), command.getAuthorId());
+                },
+                comments -> {
+                    List<Comment> saved = transactionTemplate.execute(status -> commentRepository.saveAll(comments));
+                    saved.forEach(comment -> negativeCache.evict(cacheKey(comment.getId())));
+                    saved.stream().map(Comment::getPostId).distinct().forEach(this::invalidateFeed);
+                    return saved;
+                },
+                CommentDto::from);
     }
 
     @Override
@@ -50,6 +103,7 @@ public class CommentService implements CommentUseCase {
                         .orElseThrow(() -> new NotFoundException("Comment", command.getId()));
                 comment.updateContent(command.getContent());
                 Comment updatedComment = commentRepository.save(comment);
+                invalidateFeed(updatedComment.getPostId());
                 return CommentDto.from(updatedComment);
             } catch (IllegalArgumentException e) {
                 status.setRollbackOnly();
@@ -67,20 +121,50 @@ public class CommentService implements CommentUseCase {
             throw new ValidationException("id", "cannot be null");
         }
 
-        return readOnlyTransactionTemplate.execute(status -> commentRepository.findById(id)
-                .map(CommentDto::from)
-                .orElseThrow(() -> new NotFoundException("Comment", id)));
+        String key = cacheKey(id);
+        Optional<NotFoundException> missing = negativeCache.find(key);
+        if (missing.isPresent()) {
+            throw missing.get();
+        }
+
+        try {
+            return readOnlyTransactionTemplate.execute(status -> commentRepository.findById(id)
+                    .map(CommentDto::from)
+                    .orElseThrow(() -> new NotFoundException("Comment", id)));
+        } catch (NotFoundException e) {
+            negativeCache.put(key, e);
+            throw e;
+        }
     }
 
     @Override
-    public List<CommentDto> getCommentsByPostId(Long postId) {
+    public CursorPage<CommentDto> getCommentsByPostId(Long postId, String cursor, int limit) {
         if (postId == null) {
             throw new ValidationException("postId", "cannot be null");
         }
+        validateLimit(limit);
+        TimestampIdCursor position = cursor != null ? decodeCursor(cursor) : null;
 
-        return readOnlyTransactionTemplate.execute(status -> commentRepository.findByPostId(postId).stream()
-                .map(CommentDto::from)
-                .toList());
+        // First pages are what nearly every reader asks for; deeper pages go to the database
+        if (position == null) {
+            List<CommentDto> head = getFeedHead(postId).getComments();
+            return CursorPage.of(head.subList(0, Math.min(head.size(), limit + 1)), limit, CommentService::cursorOf);
+        }
+
+        return readOnlyTransactionTemplate.execute(status -> CursorPage.of(
+                commentQueryRepository.findFeedByPostId(
+                        postId,
+                        position != null ? position.getTimestamp() : null,
+                        position != null ? position.getId() : null,
+                        limit + 1),
+                limit,
+                CommentService::cursorOf));
+    }
+
+    @Override
+    public void exportComments(Consumer<CommentDto> sink) {
+        readOnlyTransactionTemplate.executeWithoutResult(status -> commentRepository.streamAll(
+                comment -> sink.accept(CommentDto.from(comment))));
     }
 
     @Override
@@ -90,14 +174,60 @@ public class CommentService implements CommentUseCase {
         }
 
         transactionTemplate.executeWithoutResult(status -> {
-            if (!commentRepository.findById(id).isPresent()) {
+            Long postId = commentRepository.findPostIdById(id)
+                    .orElseThrow(() -> new NotFoundException("Comment", id));
+            if (commentRepository.deleteById(id) == 0) {
                 status.setRollbackOnly();
                 throw new NotFoundException("Comment", id);
             }
-            commentRepository.deleteById(id);
+            invalidateFeed(postId);
         });
     }
 
+    /**
+     * Reads the cached newest comments of a post. The entry is keyed by the post's feed version,
+     * so a write moving the version makes every reader miss and rebuild it once.
+     */
+    private CommentFeedHead getFeedHead(Long postId) {
+        String version = cacheAside.currentVersion(feedVersionKey(postId), FEED_VERSION_TTL);
+        return cacheAside.get(FEED_KEY_PREFIX + postId + ":" + version, CommentFeedHead.class, FEED_TTL,
+                () -> primaryReadTransactionTemplate.execute(status -> new CommentFeedHead(
+                        commentQueryRepository.findFeedByPostId(postId, null, null, CursorPage.MAX_LIMIT + 1))));
+    }
+
+    /**
+     * Moves the post's feed to a new version once the surrounding transaction commits.
+     */
+    private void invalidateFeed(Long postId) {
+        cacheAside.bumpVersion(feedVersionKey(postId), FEED_VERSION_TTL);
+    }
+
+    static String feedVersionKey(Long postId) {
+        return FEED_VERSION_KEY_PREFIX + postId;
+    }
+
+    private static String cursorOf(CommentDto comment) {
+        return new TimestampIdCursor(comment.getCreatedAt(), comment.getId()).encode();
+    }
+
+    private static String cacheKey(Long id) {
+        return CACHE_KEY_PREFIX + id;
+    }
+
+    private void validateLimit(int limit) {
+        if (limit < 1 || limit > CursorPage.MAX_LIMIT) {
+            throw new ValidationException("limit", "must be between 1 and " + CursorPage.MAX_LIMIT);
+        }
+    }
+
+    private TimestampIdCursor decodeCursor(String cursor) {
+        try {
+            return TimestampIdCursor.decode(cursor);
+        } catch (IllegalArgumentException e) {
+            throw new ValidationException("cursor", "is not a valid page token");
+        }
+    }
+
     private void validateCreateCommentCommand(CreateCommentCommand command) {
         if (command == null) {
             throw new ValidationException("CreateCommentCommand cannot be null");
@@ -113,6 +243,23 @@ public class CommentService implements CommentUseCase {
         }
     }
 
+    /**
+     * Rejects comments on posts or by users that do not exist. Served from the in-memory
+     * existence indexes, so valid references usually cost no query.
+     * <p>
+     * The check runs before, not within, the insert, and the post index keeps answering true
+     * for posts deleted on other nodes until its next rebuild, so a comment can still land on
+     * a post deleted in the meantime. The worker's orphaned comment sweep removes those.
+     */
+    private void validateReferences(CreateCommentCommand command) {
+        if (!postExistenceIndex.exists(command.getPostId())) {
+            throw new ValidationException("postId", "refers to no existing post");
+        }
+        if (!userExistenceIndex.exists(command.getAuthorId())) {
+            throw new ValidationException("authorId", "refers to no existing user");
+        }
+    }
+
     private void validateUpdateCommentCommand(UpdateCommentCommand command) {
         if (command == null) {
             throw new ValidationException("UpdateCommentCommand cannot be null");
@@ -1,6 +1,10 @@
 package kr.co.jparangdev.application.comment;
 
+import kr.co.jparangdev.application.common.bulk.BulkItemResult;
+import kr.co.jparangdev.application.common.pagination.CursorPage;
+
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * Comment use case interface (input port).
@@ -8,11 +12,20 @@ import java.util.List;
 public interface CommentUseCase {
     CommentDto createComment(CreateCommentCommand command);
 
+    List<BulkItemResult<CommentDto>> createComments(List<CreateCommentCommand> commands);
+
     CommentDto updateComment(UpdateCommentCommand command);
 
     CommentDto getCommentById(Long id);
 
-    List<CommentDto> getCommentsByPostId(Long postId);
+    /**
+     * Returns a page of a post's comments, newest first.
+     *
+     * @param cursor {@code nextCursor} of the previous page, or {@code null} for the first page
+     */
+    CursorPage<CommentDto> getCommentsByPostId(Long postId, String cursor, int limit);
+
+    void exportComments(Consumer<CommentDto> sink);
 
     void deleteComment(Long id);
 }
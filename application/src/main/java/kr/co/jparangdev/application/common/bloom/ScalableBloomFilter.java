@@ -0,0 +1,134 @@
+package kr.co.jparangdev.application.common.bloom;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Thread-safe scalable Bloom filter (Almeida et al.): when the newest layer reaches its
+ * capacity, a layer twice as large with a tighter false-positive rate is added, so the
+ * overall rate stays under the target however many values are added.
+ * <p>
+ * {@link #mightContain} never returns false for an added value; it returns true for an
+ * absent one with roughly the configured probability. Values cannot be removed.
+ */
+public class ScalableBloomFilter {
+
+    private static final int GROWTH_FACTOR = 2;
+    /** Each new layer gets this fraction of the previous layer's false-positive rate. */
+    private static final double TIGHTENING_RATIO = 0.5;
+
+    private final List<Layer> layers = new CopyOnWriteArrayList<>();
+
+    public ScalableBloomFilter(long initialCapacity, double falsePositiveRate) {
+        // The layer rates form a geometric series summing to at most falsePositiveRate
+        layers.add(new Layer(initialCapacity, falsePositiveRate * (1 - TIGHTENING_RATIO)));
+    }
+
+    public boolean mightContain(String value) {
+        long[] hashes = hash(value);
+        for (Layer layer : layers) {
+            if (layer.mightContain(hashes)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public void put(String value) {
+        long[] hashes = hash(value);
+        for (Layer layer : layers) {
+            if (layer.mightContain(hashes)) {
+                return;
+            }
+        }
+        writableLayer().put(hashes);
+    }
+
+    private Layer writableLayer() {
+        Layer newest = layers.get(layers.size() - 1);
+        if (newest.count.get() < newest.capacity) {
+            return newest;
+        }
+        synchronized (this) {
+            newest = layers.get(layers.size() - 1);
+            if (newest.count.get() >= newest.capacity) {
+                newest = new Layer(newest.capacity * GROWTH_FACTOR, newest.falsePositiveRate * TIGHTENING_RATIO);
+                layers.add(newest);
+            }
+            return newest;
+        }
+    }
+
+    /**
+     * Two independent 64-bit hashes; the k bit positions are derived from them by double hashing.
+     */
+    private static long[] hash(String value) {
+        long h1 = 0xcbf29ce484222325L;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            h1 ^= b & 0xFF;
+            h1 *= 0x100000001b3L;
+        }
+        return new long[]{mix(h1), mix(h1 ^ 0x9e3779b97f4a7c15L)};
+    }
+
+    /**
+     * MurmurHash3 64-bit finalizer.
+     */
+    private static long mix(long h) {
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    private static final class Layer {
+        private final long capacity;
+        private final double falsePositiveRate;
+        private final long numBits;
+        private final int numHashes;
+        private final AtomicLongArray bits;
+        private final AtomicLong count = new AtomicLong();
+
+        private Layer(long capacity, double falsePositiveRate) {
+            this.capacity = capacity;
+            this.falsePositiveRate = falsePositiveRate;
+            long optimalBits = (long) Math.ceil(-capacity * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+            int words = Math.toIntExact((Math.max(64, optimalBits) + 63) / 64);
+            this.numBits = words * 64L;
+            this.numHashes = Math.max(1, (int) Math.round((double) numBits / capacity * Math.log(2)));
+            this.bits = new AtomicLongArray(words);
+        }
+
+        boolean mightContain(long[] hashes) {
+            for (int i = 0; i < numHashes; i++) {
+                long bit = bitIndex(hashes, i);
+                if ((bits.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        void put(long[] hashes) {
+            for (int i = 0; i < numHashes; i++) {
+                long bit = bitIndex(hashes, i);
+                int word = (int) (bit >>> 6);
+                long mask = 1L << bit;
+                long current;
+                do {
+                    current = bits.get(word);
+                } while ((current & mask) == 0 && !bits.compareAndSet(word, current, current | mask));
+            }
+            count.incrementAndGet();
+        }
+
+        private long bitIndex(long[] hashes, int i) {
+            return Math.floorMod(hashes[0] + i * hashes[1], numBits);
+        }
+    }
+}
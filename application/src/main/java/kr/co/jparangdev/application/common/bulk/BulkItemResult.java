@@ -0,0 +1,30 @@
+package kr.co.jparangdev.application.common.bulk;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Outcome of one item of a bulk request. {@code index} is the position of the
+ * item in the request; exactly one of {@code data} and {@code error} is set.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkItemResult<T> {
+    private int index;
+    private T data;
+    private String error;
+
+    public static <T> BulkItemResult<T> success(int index, T data) {
+        return new BulkItemResult<>(index, data, null);
+    }
+
+    public static <T> BulkItemResult<T> failure(int index, String error) {
+        return new BulkItemResult<>(index, null, error);
+    }
+
+    public boolean isSuccess() {
+        return error == null;
+    }
+}
@@ -0,0 +1,63 @@
+package kr.co.jparangdev.application.common.bulk;
+
+import kr.co.jparangdev.application.common.exception.ValidationException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+
+/**
+ * Runs a bulk create: every input is validated on its own, the valid ones are
+ * persisted with a single call, and one result per input is returned in request order.
+ */
+public final class BulkProcessor {
+
+    public static final int MAX_ITEMS = 1000;
+
+    private BulkProcessor() {
+    }
+
+    /**
+     * @param inputs   the request items
+     * @param prepare  validates an input and builds the object to persist; throws
+     *                 {@link ValidationException} or {@link IllegalArgumentException}
+     *                 for an invalid item
+     * @param persist  persists all prepared objects at once, returning them in the same order
+     * @param toResult maps a persisted object to the result payload
+     */
+    public static <I, E, R> List<BulkItemResult<R>> process(List<I> inputs, Function<I, E> prepare,
+            UnaryOperator<List<E>> persist, Function<E, R> toResult) {
+        if (inputs == null || inputs.isEmpty()) {
+            throw new ValidationException("items", "cannot be empty");
+        }
+        if (inputs.size() > MAX_ITEMS) {
+            throw new ValidationException("items", "cannot contain more than " + MAX_ITEMS + " entries");
+        }
+
+        @SuppressWarnings("unchecked")
+        BulkItemResult<R>[] results = new BulkItemResult[inputs.size()];
+        List<E> prepared = new ArrayList<>(inputs.size());
+        List<Integer> preparedIndexes = new ArrayList<>(inputs.size());
+
+        for (int i = 0; i < inputs.size(); i++) {
+            try {
+                prepared.add(prepare.apply(inputs.get(i)));
+                preparedIndexes.add(i);
+            } catch (ValidationException | IllegalArgumentException e) {
+                results[i] = BulkItemResult.failure(i, e.getMessage());
+            }
+        }
+
+        if (!prepared.isEmpty()) {
+            List<E> persisted = persist.apply(prepared);
+            for (int j = 0; j < persisted.size(); j++) {
+                int index = preparedIndexes.get(j);
+                results[index] = BulkItemResult.success(index, toResult.apply(persisted.get(j)));
+            }
+        }
+
+        return Arrays.asList(results);
+    }
+}
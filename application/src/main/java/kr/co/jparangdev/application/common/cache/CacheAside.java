@@ -0,0 +1,290 @@
+package kr.co.jparangdev.application.common.cache;
+
+import jakarta.annotation.PreDestroy;
+import kr.co.jparangdev.application.common.exception.NotFoundException;
+import kr.co.jparangdev.application.common.port.CachePort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Supplier;
+
+/**
+ * Read-through caching over {@link CachePort} for use cases.
+ * Concurrent misses for the same key on this node share a single load, and cache
+ * failures are logged and fall back to the loader so the cache never fails a request.
+ * <p>
+ * Hot entries are recomputed in the background shortly before they expire, using XFetch
+ * probabilistic early expiration: the closer an entry is to expiry and the more expensive it
+ * was to compute, the more likely a read is to schedule a refresh. TTLs are jittered so
+ * entries written together do not expire together.
+ * <p>
+ * A loader's {@link NotFoundException} is remembered briefly in the {@link NegativeCache},
+ * so lookups of missing ids do not reach the database on every request.
+ * <p>
+ * Evictions and version bumps advance a per-key generation (striped, node-local). A load
+ * or refresh whose key's generation moved while it ran may have read pre-update data, so
+ * its write is dropped, or undone if the eviction slipped in just before the write.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CacheAside {
+
+    /** XFetch beta; values above 1 favour earlier refreshes. */
+    private static final double EARLY_EXPIRATION_BETA = 1.0;
+    /** Fraction of the TTL added at random to each write. */
+    private static final double TTL_JITTER = 0.1;
+    private static final int REFRESH_THREADS = 4;
+    private static final int REFRESH_QUEUE_CAPACITY = 256;
+    private static final int GENERATION_STRIPES = 1024;
+
+    private final CachePort cachePort;
+    private final NegativeCache negativeCache;
+    private final SingleFlight<String, Object> loads = new SingleFlight<>();
+    private final Set<String> refreshing = ConcurrentHashMap.newKeySet();
+    private final ExecutorService refreshExecutor = newRefreshExecutor();
+    private final AtomicLongArray generations = new AtomicLongArray(GENERATION_STRIPES);
+
+    public <T> T get(String key, Class<T> type, Duration ttl, Supplier<T> loader) {
+        Optional<NotFoundException> missing = negativeCache.find(key);
+        if (missing.isPresent()) {
+            throw missing.get();
+        }
+
+        Optional<CacheEntry> cached = read(key, type);
+        if (cached.isPresent()) {
+            if (shouldRefreshEarly(cached.get())) {
+                refreshAsync(key, ttl, loader);
+            }
+            return type.cast(cached.get().getValue());
+        }
+
+        return type.cast(loads.execute(key, () -> {
+            // A load that finished just before this one started may already have filled the cache
+            Optional<CacheEntry> filled = read(key, type);
+            if (filled.isPresent()) {
+                return filled.get().getValue();
+            }
+            try {
+                return load(key, ttl, loader);
+            } catch (NotFoundException e) {
+                negativeCache.put(key, e);
+                throw e;
+            }
+        }));
+    }
+
+    /**
+     * Evicts the key now, or after the current transaction commits if there is one,
+     * so a concurrent reader cannot re-cache the pre-commit state.
+     */
+    public void evict(String key) {
+        evictAll(List.of(key));
+    }
+
+    /**
+     * Same as {@link #evict(String)} for several keys.
+     */
+    public void evictAll(Collection<String> keys) {
+        if (keys.isEmpty()) {
+            return;
+        }
+        List<String> pending = List.copyOf(keys);
+        afterCommit(() -> doEvict(pending));
+    }
+
+    /**
+     * Returns the version token of a group of keys. Embedding it in those keys lets
+     * {@link #bumpVersion} invalidate the whole group with a single write; old entries simply expire.
+     * A missing or unreadable token is replaced by a new one, never by an earlier value,
+     * so a lost token cannot bring back entries of an older version.
+     */
+    public String currentVersion(String versionKey, Duration ttl) {
+        try {
+            long generation = generation(versionKey);
+            Optional<String> version = cachePort.get(versionKey, String.class);
+            if (version.isPresent()) {
+                return version.get();
+            }
+            String initial = newVersion();
+            cachePort.put(versionKey, initial, ttl);
+            if (generation(versionKey) != generation) {
+                // The initial token may have overwritten a concurrent bump; the next read starts afresh
+                cachePort.evict(versionKey);
+            }
+            return initial;
+        } catch (RuntimeException e) {
+            log.warn("Cache version read failed for {}: {}", versionKey, e.getMessage());
+            return newVersion();
+        }
+    }
+
+    /**
+     * Moves a group of keys to a new version, after the current transaction commits if there is one.
+     * The TTL must be longer than that of the entries keyed under the version.
+     */
+    public void bumpVersion(String versionKey, Duration ttl) {
+        afterCommit(() -> {
+            advanceGeneration(versionKey);
+            try {
+                cachePort.put(versionKey, newVersion(), ttl);
+            } catch (RuntimeException e) {
+                log.warn("Cache version bump failed for {}, entries expire with their TTL: {}",
+                        versionKey, e.getMessage());
+            }
+        });
+    }
+
+    @PreDestroy
+    void shutdown() {
+        refreshExecutor.shutdownNow();
+    }
+
+    /**
+     * XFetch: refresh when {@code now - computeTime * beta * ln(random) >= expiry}.
+     * {@code ln(random)} is negative, so the left side reaches past now by a random multiple of the compute time.
+     */
+    private boolean shouldRefreshEarly(CacheEntry entry) {
+        double random = 1.0 - ThreadLocalRandom.current().nextDouble(); // (0, 1], keeps ln finite
+        double reach = entry.getComputeMillis() * EARLY_EXPIRATION_BETA * -Math.log(random);
+        return System.currentTimeMillis() + reach >= entry.getExpiresAtMillis();
+    }
+
+    private <T> void refreshAsync(String key, Duration ttl, Supplier<T> loader) {
+        if (!refreshing.add(key)) {
+            return;
+        }
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    load(key, ttl, loader);
+                } catch (RuntimeException e) {
+                    log.debug("Background refresh failed for {}: {}", key, e.getMessage());
+                } finally {
+                    refreshing.remove(key);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // Queue is full: the entry is still served and a later read or the expiry will reload it
+            refreshing.remove(key);
+        }
+    }
+
+    private <T> T load(String key, Duration ttl, Supplier<T> loader) {
+        long generation = generation(key);
+        long startedAt = System.nanoTime();
+        T value = loader.get();
+        long computeMillis = Math.max(1, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+        if (generation(key) != generation) {
+            // Evicted while loading: the value is still this caller's answer, but may predate the write
+            return value;
+        }
+
+        Duration jitteredTtl = jitter(ttl);
+        long expiresAtMillis = System.currentTimeMillis() + jitteredTtl.toMillis();
+        write(key, new CacheEntry(value, computeMillis, expiresAtMillis), jitteredTtl);
+        if (generation(key) != generation) {
+            // The eviction ran between the check and the write
+            doEvict(List.of(key));
+        }
+        return value;
+    }
+
+    private long generation(String key) {
+        return generations.get(stripe(key));
+    }
+
+    private void advanceGeneration(String key) {
+        generations.incrementAndGet(stripe(key));
+    }
+
+    private static int stripe(String key) {
+        return (key.hashCode() & Integer.MAX_VALUE) % GENERATION_STRIPES;
+    }
+
+    private static Duration jitter(Duration ttl) {
+        long extraMillis = (long) (ttl.toMillis() * TTL_JITTER * ThreadLocalRandom.current().nextDouble());
+        return ttl.plusMillis(extraMillis);
+    }
+
+    private Optional<CacheEntry> read(String key, Class<?> type) {
+        try {
+            // Entries of another shape (e.g. written before refresh-ahead) count as misses and get overwritten
+            return cachePort.get(key, CacheEntry.class)
+                    .filter(entry -> type.isInstance(entry.getValue()));
+        } catch (RuntimeException e) {
+            log.warn("Cache read failed for {}: {}", key, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private void write(String key, CacheEntry entry, Duration ttl) {
+        try {
+            cachePort.put(key, entry, ttl);
+        } catch (RuntimeException e) {
+            log.warn("Cache write failed for {}: {}", key, e.getMessage());
+        }
+    }
+
+    private static String newVersion() {
+        return UUID.randomUUID().toString();
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private void doEvict(Collection<String> keys) {
+        keys.forEach(this::advanceGeneration);
+        keys.forEach(negativeCache::evict);
+        try {
+            if (keys.size() == 1) {
+                cachePort.evict(keys.iterator().next());
+            } else {
+                cachePort.evictAll(keys);
+            }
+        } catch (RuntimeException e) {
+            log.warn("Cache eviction failed for {} key(s), entries expire with their TTL: {}",
+                    keys.size(), e.getMessage());
+        }
+    }
+
+    private static ExecutorService newRefreshExecutor() {
+        AtomicInteger threadCount = new AtomicInteger();
+        return new ThreadPoolExecutor(REFRESH_THREADS, REFRESH_THREADS, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(REFRESH_QUEUE_CAPACITY),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "cache-refresh-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+}
@@ -0,0 +1,18 @@
+package kr.co.jparangdev.application.common.cache;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * Cached value together with what refresh-ahead needs to decide on early recomputation:
+ * how long the value took to compute and when it logically expires.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CacheEntry {
+    private Object value;
+    private long computeMillis;
+    private long expiresAtMillis;
+}
@@ -0,0 +1,82 @@
+package kr.co.jparangdev.application.common.cache;
+
+import kr.co.jparangdev.application.common.exception.NotFoundException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Remembers recent not-found lookups on this node so repeated requests for missing ids
+ * skip the database for a short while.
+ * <p>
+ * The map is capped: once full, new misses are not recorded until expired ones are swept,
+ * so scanning random ids cannot grow it without bound. Entries are local, so a create on
+ * another node is only seen here once the entry expires.
+ */
+@Component
+public class NegativeCache {
+
+    private static final Duration TTL = Duration.ofSeconds(10);
+    private static final int MAX_ENTRIES = 10_000;
+    /** Minimum gap between sweeps, so a full map of live entries is not rescanned on every miss. */
+    private static final long SWEEP_INTERVAL_NANOS = Duration.ofSeconds(1).toNanos();
+
+    private final Map<String, Miss> misses = new ConcurrentHashMap<>();
+    private final AtomicLong lastSweepAt = new AtomicLong(System.nanoTime());
+
+    /**
+     * Returns a fresh exception for a recorded miss, or empty if the key is not known to be missing.
+     */
+    public Optional<NotFoundException> find(String key) {
+        Miss miss = misses.get(key);
+        if (miss == null) {
+            return Optional.empty();
+        }
+        if (miss.isExpired(System.nanoTime())) {
+            misses.remove(key, miss);
+            return Optional.empty();
+        }
+        return Optional.of(new NotFoundException(miss.message));
+    }
+
+    public void put(String key, NotFoundException exception) {
+        long now = System.nanoTime();
+        if (misses.size() >= MAX_ENTRIES && !sweep(now)) {
+            return;
+        }
+        misses.put(key, new Miss(exception.getMessage(), now + TTL.toNanos()));
+    }
+
+    /**
+     * Forgets a recorded miss, e.g. once an entity with that key has been created.
+     */
+    public void evict(String key) {
+        misses.remove(key);
+    }
+
+    /**
+     * Removes expired entries; returns whether there is room for a new one afterwards.
+     */
+    private boolean sweep(long now) {
+        long last = lastSweepAt.get();
+        if (now - last >= SWEEP_INTERVAL_NANOS && lastSweepAt.compareAndSet(last, now)) {
+            misses.values().removeIf(miss -> miss.isExpired(now));
+        }
+        return misses.size() < MAX_ENTRIES;
+    }
+
+    @RequiredArgsConstructor
+    private static final class Miss {
+        private final String message;
+        private final long expiresAtNanos;
+
+        boolean isExpired(long now) {
+            return now - expiresAtNanos >= 0;
+        }
+    }
+}
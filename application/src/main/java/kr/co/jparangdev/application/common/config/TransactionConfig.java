@@ -10,6 +10,12 @@ import org.springframework.transaction.support.TransactionTemplate;
 @Configuration
 public class TransactionConfig {
 
+    /**
+     * Name of transactions started by {@link #primaryReadTransactionTemplate}; replica routing
+     * sends them to the primary even though they are read-only.
+     */
+    public static final String PRIMARY_READ_TRANSACTION_NAME = "primary-read";
+
     @Bean
     @Primary
     public TransactionTemplate transactionTemplate(PlatformTransactionManager transactionManager) {
@@ -23,4 +29,17 @@ public class TransactionConfig {
         transactionTemplate.setReadOnly(true);
         return transactionTemplate;
     }
+
+    /**
+     * Read-only transactions that must see the latest committed state, such as loads that fill a
+     * shared cache: a lagging replica would otherwise cache pre-update data for the full TTL.
+     */
+    @Bean
+    @Qualifier("primaryReadTransactionTemplate")
+    public TransactionTemplate primaryReadTransactionTemplate(PlatformTransactionManager transactionManager) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(true);
+        transactionTemplate.setName(PRIMARY_READ_TRANSACTION_NAME);
+        return transactionTemplate;
+    }
 }
@@ -0,0 +1,29 @@
+package kr.co.jparangdev.application.common.context;
+
+/**
+ * Holds the id of the client the current thread is serving, if any.
+ * Set by the presentation layer per request so lower layers can apply
+ * per-client behaviour such as read-your-writes routing.
+ */
+public final class ClientContextHolder {
+
+    private static final ThreadLocal<String> CLIENT_ID = new ThreadLocal<>();
+
+    private ClientContextHolder() {
+    }
+
+    public static void setClientId(String clientId) {
+        CLIENT_ID.set(clientId);
+    }
+
+    /**
+     * @return the current client id, or {@code null} outside a client request
+     */
+    public static String getClientId() {
+        return CLIENT_ID.get();
+    }
+
+    public static void clear() {
+        CLIENT_ID.remove();
+    }
+}
@@ -0,0 +1,104 @@
+package kr.co.jparangdev.application.common.index;
+
+import kr.co.jparangdev.application.common.port.IdSetPort;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
+import java.util.function.LongPredicate;
+
+/**
+ * In-memory set of the ids of one table, answering existence checks without a query for ids it holds.
+ * <p>
+ * The set is filled in the background from a streaming id scan the first time it is consulted
+ * after startup, and again once it is older than the rebuild interval. Ids it does not hold,
+ * including every id while the first scan runs, are checked against the primary and added
+ * when found, so rows created on other nodes cost one query each and are seen as soon as they
+ * commit. Rows deleted on other nodes keep answering true until the next rebuild; callers that
+ * store references must tolerate rows created against such a stale answer.
+ */
+@Slf4j
+public abstract class ExistenceIndex {
+
+    private static final long REBUILD_INTERVAL_NANOS = Duration.ofMinutes(30).toNanos();
+    /** Minimum gap between scans while the set has never been built, e.g. after a failed scan. */
+    private static final long RETRY_INTERVAL_NANOS = Duration.ofMinutes(1).toNanos();
+
+    private final String name;
+    private final IdSetPort.IdSet ids;
+    private final TransactionTemplate readOnlyTransactionTemplate;
+    private final TransactionTemplate primaryReadTransactionTemplate;
+    private final LongPredicate existsInDatabase;
+    private final Consumer<LongConsumer> idSource;
+
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+    private volatile boolean ready;
+    private volatile long lastRebuildStartedAt = System.nanoTime() - REBUILD_INTERVAL_NANOS;
+
+    protected ExistenceIndex(String name, IdSetPort idSetPort, TransactionTemplate readOnlyTransactionTemplate,
+            TransactionTemplate primaryReadTransactionTemplate, LongPredicate existsInDatabase,
+            Consumer<LongConsumer> idSource) {
+        this.name = name;
+        this.ids = idSetPort.idSet(name);
+        this.readOnlyTransactionTemplate = readOnlyTransactionTemplate;
+        this.primaryReadTransactionTemplate = primaryReadTransactionTemplate;
+        this.existsInDatabase = existsInDatabase;
+        this.idSource = idSource;
+    }
+
+    public boolean exists(long id) {
+        rebuildIfDue();
+        if (ready && ids.contains(id)) {
+            return true;
+        }
+        Boolean found = primaryReadTransactionTemplate.execute(status -> existsInDatabase.test(id));
+        if (Boolean.TRUE.equals(found)) {
+            ids.add(id);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Records a committed insert.
+     */
+    public void added(long id) {
+        ids.add(id);
+    }
+
+    /**
+     * Records a committed delete.
+     */
+    public void removed(long id) {
+        ids.remove(id);
+    }
+
+    public void rebuildAsync() {
+        if (!rebuilding.compareAndSet(false, true)) {
+            return;
+        }
+        lastRebuildStartedAt = System.nanoTime();
+        Thread.ofPlatform().daemon().name(name + "-existence-index").start(() -> {
+            try {
+                ids.rebuild(sink -> readOnlyTransactionTemplate.executeWithoutResult(
+                        status -> idSource.accept(sink)));
+                ready = true;
+            } catch (RuntimeException e) {
+                log.warn("Existence index {} rebuild failed, checks fall back to the database: {}",
+                        name, e.getMessage());
+            } finally {
+                rebuilding.set(false);
+            }
+        });
+    }
+
+    private void rebuildIfDue() {
+        long interval = ready ? REBUILD_INTERVAL_NANOS : RETRY_INTERVAL_NANOS;
+        if (System.nanoTime() - lastRebuildStartedAt >= interval) {
+            rebuildAsync();
+        }
+    }
+}
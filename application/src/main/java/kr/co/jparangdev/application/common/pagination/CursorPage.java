@@ -0,0 +1,36 @@
+package kr.co.jparangdev.application.common.pagination;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * A single page of a cursor (keyset) paginated listing.
+ * {@code nextCursor} is an opaque token to pass back for the following page,
+ * or {@code null} when there are no more items.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPage<T> {
+    public static final int MAX_LIMIT = 100;
+
+    private List<T> items;
+    private String nextCursor;
+    private boolean hasNext;
+
+    /**
+     * Builds a page from a result fetched with {@code limit + 1} rows.
+     * The extra row only signals that another page exists and is not returned.
+     */
+    public static <T> CursorPage<T> of(List<T> fetched, int limit, Function<T, String> cursorOf) {
+        boolean hasNext = fetched.size() > limit;
+        List<T> items = new ArrayList<>(hasNext ? fetched.subList(0, limit) : fetched);
+        String nextCursor = hasNext ? cursorOf.apply(items.get(items.size() - 1)) : null;
+        return new CursorPage<>(items, nextCursor, hasNext);
+    }
+}
@@ -0,0 +1,14 @@
+package kr.co.jparangdev.application.common.pagination;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * An inclusive range of ids, used to split keyset scans into independent slices.
+ */
+@Getter
+@RequiredArgsConstructor
+public class IdRange {
+    private final long minId;
+    private final long maxId;
+}
@@ -1,6 +1,8 @@
 package kr.co.jparangdev.application.common.port;
 
 import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -20,6 +22,16 @@ public interface CachePort {
      */
     <T> Optional<T> get(String key, Class<T> type);
 
+    /**
+     * Retrieves several values at once, in as few round trips as the implementation allows.
+     *
+     * @param keys the cache keys
+     * @param type the expected type of every value
+     * @param <T>  the type of the cached values
+     * @return the cached values by key; keys that are not cached are absent
+     */
+    <T> Map<String, T> getAll(Collection<String> keys, Class<T> type);
+
     /**
      * Stores a value in the cache with the default TTL.
      *
@@ -37,6 +49,26 @@ public interface CachePort {
      */
     void put(String key, Object value, Duration ttl);
 
+    /**
+     * Stores a value in the cache with a specified TTL and associates it with
+     * the given tags, so that it can later be removed with {@link #evictByTag}.
+     *
+     * @param key   the cache key
+     * @param value the value to cache
+     * @param ttl   time-to-live duration
+     * @param tags  tags to associate the key with
+     */
+    void put(String key, Object value, Duration ttl, Collection<String> tags);
+
+    /**
+     * Stores several values with the same TTL, in as few round trips as the
+     * implementation allows.
+     *
+     * @param entries the values to cache by key
+     * @param ttl     time-to-live duration
+     */
+    void putAll(Map<String, ?> entries, Duration ttl);
+
     /**
      * Removes a value from the cache.
      *
@@ -44,10 +76,27 @@ public interface CachePort {
      */
     void evict(String key);
 
+    /**
+     * Removes several values at once.
+     *
+     * @param keys the cache keys to evict
+     */
+    void evictAll(Collection<String> keys);
+
+    /**
+     * Removes every key stored with the given tag.
+     * The cost depends only on the number of tagged keys, which makes this the
+     * preferred way to invalidate groups of keys.
+     *
+     * @param tag the tag whose keys to evict
+     */
+    void evictByTag(String tag);
+
     /**
      * Removes all keys matching the given pattern.
      * Pattern syntax depends on the underlying implementation (e.g., "user:*" for
-     * Redis).
+     * Redis). Intended for ad-hoc invalidation: implementations may have to walk
+     * the whole keyspace, so prefer {@link #evictByTag} on hot paths.
      *
      * @param pattern the key pattern to match
      */
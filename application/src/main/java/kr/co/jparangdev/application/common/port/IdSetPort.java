@@ -0,0 +1,41 @@
+package kr.co.jparangdev.application.common.port;
+
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
+
+/**
+ * Compact in-memory sets of entity ids (Output Port), used to answer existence checks
+ * without a database round trip.
+ * <p>
+ * Sets are local to the process; keeping them in step with other nodes is up to the caller.
+ */
+public interface IdSetPort {
+
+    /**
+     * Returns the set registered under the given name, creating an empty one on first use.
+     *
+     * @param name stable name of the set, also used to tag its metrics
+     */
+    IdSet idSet(String name);
+
+    /**
+     * A thread-safe set of ids.
+     */
+    interface IdSet {
+
+        boolean contains(long id);
+
+        void add(long id);
+
+        void remove(long id);
+
+        /**
+         * Replaces the contents with the ids the source emits. The set keeps answering from its
+         * previous contents until the source completes, and adds or removes made meanwhile are
+         * applied on top of the new contents.
+         *
+         * @param source pushes every id into the given consumer
+         */
+        void rebuild(Consumer<LongConsumer> source);
+    }
+}
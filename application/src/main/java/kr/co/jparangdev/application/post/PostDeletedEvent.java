@@ -0,0 +1,20 @@
+package kr.co.jparangdev.application.post;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Published after a post has been deleted, so dependent data can be cleaned up asynchronously.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PostDeletedEvent {
+    public static final String TOPIC = "post.deleted";
+
+    private Long postId;
+    private LocalDateTime deletedAt;
+}
@@ -0,0 +1,21 @@
+package kr.co.jparangdev.application.post;
+
+import kr.co.jparangdev.application.common.index.ExistenceIndex;
+import kr.co.jparangdev.application.common.port.IdSetPort;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Ids of existing posts, for validating references to them.
+ */
+@Component
+public class PostExistenceIndex extends ExistenceIndex {
+
+    public PostExistenceIndex(IdSetPort idSetPort, PostRepository postRepository,
+            @Qualifier("readOnlyTransactionTemplate") TransactionTemplate readOnlyTransactionTemplate,
+            @Qualifier("primaryReadTransactionTemplate") TransactionTemplate primaryReadTransactionTemplate) {
+        super("posts", idSetPort, readOnlyTransactionTemplate, primaryReadTransactionTemplate,
+                postRepository::existsById, postRepository::streamIds);
+    }
+}
@@ -0,0 +1,10 @@
+package kr.co.jparangdev.application.post;
+
+import java.util.Optional;
+
+/**
+ * Read-side post port that returns DTOs directly, without loading entities or domain objects.
+ */
+public interface PostQueryRepository {
+    Optional<PostDto> findDtoById(Long id);
+}
@@ -4,6 +4,8 @@ import kr.co.jparangdev.domain.post.Post;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
 
 /**
  * Post repository port interface.
@@ -11,9 +13,29 @@ import java.util.Optional;
 public interface PostRepository {
     Post save(Post post);
 
+    List<Post> saveAll(List<Post> posts);
+
     Optional<Post> findById(Long id);
 
-    List<Post> findAll();
+    boolean existsById(Long id);
+
+    List<Post> findAllAfter(Long afterId, int limit);
+
+    /**
+     * Deletes the post with one statement, without loading it first.
+     *
+     * @return the number of rows deleted, 0 if no such post exists
+     */
+    int deleteById(Long id);
+
+    /**
+     * Streams every post in id order without loading the table into memory.
+     * Must be called inside a transaction so the rows can be read through a cursor.
+     */
+    void streamAll(Consumer<Post> action);
 
-    void deleteById(Long id);
+    /**
+     * Streams every post id in id order; like {@link #streamAll}, must be called inside a transaction.
+     */
+    void streamIds(LongConsumer action);
 }
@@ -1,13 +1,23 @@
 package kr.co.jparangdev.application.post;
 
+import kr.co.jparangdev.application.common.bulk.BulkItemResult;
+import kr.co.jparangdev.application.common.bulk.BulkProcessor;
+import kr.co.jparangdev.application.common.cache.CacheAside;
+import kr.co.jparangdev.application.common.cache.NegativeCache;
 import kr.co.jparangdev.application.common.exception.NotFoundException;
 import kr.co.jparangdev.application.common.exception.ValidationException;
+import kr.co.jparangdev.application.common.pagination.CursorPage;
+import kr.co.jparangdev.application.common.port.EventPublisher;
 import kr.co.jparangdev.domain.post.Post;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * Post use case implementation.
@@ -16,15 +26,26 @@ import java.util.List;
 @RequiredArgsConstructor
 public class PostService implements PostUseCase {
 
+    private static final String CACHE_KEY_PREFIX = "post:";
+    private static final Duration CACHE_TTL = Duration.ofMinutes(10);
+
     private final PostRepository postRepository;
+    private final PostQueryRepository postQueryRepository;
+    private final EventPublisher eventPublisher;
+    private final CacheAside cacheAside;
+    private final NegativeCache negativeCache;
+    private final PostExistenceIndex postExistenceIndex;
     private final TransactionTemplate transactionTemplate;
+    @Qualifier("readOnlyTransactionTemplate")
     private final TransactionTemplate readOnlyTransactionTemplate;
+    @Qualifier("primaryReadTransactionTemplate")
+    private final TransactionTemplate primaryReadTransactionTemplate;
 
     @Override
     public PostDto createPost(CreatePostCommand command) {
         validateCreatePostCommand(command);
 
-        return transactionTemplate.execute(status -> {
+        PostDto created = transactionTemplate.execute(status -> {
             try {
                 Post post = new Post(
                         command.getTitle(),
@@ -37,6 +58,28 @@ public class PostService implements PostUseCase {
                 throw new ValidationException(e.getMessage());
             }
         });
+        negativeCache.evict(cacheKey(created.getId()));
+        postExistenceIndex.added(created.getId());
+        return created;
+    }
+
+    @Override
+    public List<BulkItemResult<PostDto>> createPosts(List<CreatePostCommand> commands) {
+        return BulkProcessor.process(
+                commands,
+                command -> {
+                    validateCreatePostCommand(command);
+                    return new Post(command.getTitle(), command.getContent(), command.getAuthorId());
+                },
+                posts -> {
+                    List<Post> saved = transactionTemplate.execute(status -> postRepository.saveAll(posts));
+                    saved.forEach(post -> {
+                        negativeCache.evict(cacheKey(post.getId()));
+                        postExistenceIndex.added(post.getId());
+                    });
+                    return saved;
+                },
+                PostDto::from);
     }
 
     @Override
@@ -49,6 +92,7 @@ public class PostService implements PostUseCase {
                         .orElseThrow(() -> new NotFoundException("Post", command.getId()));
                 post.updateContent(command.getTitle(), command.getContent());
                 Post updatedPost = postRepository.save(post);
+                cacheAside.evict(cacheKey(updatedPost.getId()));
                 return PostDto.from(updatedPost);
             } catch (IllegalArgumentException e) {
                 status.setRollbackOnly();
@@ -66,16 +110,28 @@ public class PostService implements PostUseCase {
             throw new ValidationException("id", "cannot be null");
         }
 
-        return readOnlyTransactionTemplate.execute(status -> postRepository.findById(id)
-                .map(PostDto::from)
-                .orElseThrow(() -> new NotFoundException("Post", id)));
+        return cacheAside.get(cacheKey(id), PostDto.class, CACHE_TTL,
+                () -> primaryReadTransactionTemplate.execute(status -> postQueryRepository.findDtoById(id)
+                        .orElseThrow(() -> new NotFoundException("Post", id))));
+    }
+
+    @Override
+    public CursorPage<PostDto> getPosts(Long after, int limit) {
+        validateLimit(limit);
+        Long afterId = after != null ? after : 0L;
+
+        return readOnlyTransactionTemplate.execute(status -> CursorPage.of(
+                postRepository.findAllAfter(afterId, limit + 1).stream()
+                        .map(PostDto::from)
+                        .toList(),
+                limit,
+                post -> String.valueOf(post.getId())));
     }
 
     @Override
-    public List<PostDto> getAllPosts() {
-        return readOnlyTransactionTemplate.execute(status -> postRepository.findAll().stream()
-                .map(PostDto::from)
-                .toList());
+    public void exportPosts(Consumer<PostDto> sink) {
+        readOnlyTransactionTemplate.executeWithoutResult(status -> postRepository.streamAll(
+                post -> sink.accept(PostDto.from(post))));
     }
 
     @Override
@@ -85,12 +141,19 @@ public class PostService implements PostUseCase {
         }
 
         transactionTemplate.executeWithoutResult(status -> {
-            if (!postRepository.findById(id).isPresent()) {
+            if (postRepository.deleteById(id) == 0) {
                 status.setRollbackOnly();
                 throw new NotFoundException("Post", id);
             }
-            postRepository.deleteById(id);
+            cacheAside.evict(cacheKey(id));
         });
+        postExistenceIndex.removed(id);
+
+        // Comments are removed by the worker once the delete is committed, keeping this request O(1).
+        // The send does not wait for the broker; a failure is only logged, the post stays deleted
+        // and the worker's orphan sweep removes the comments instead
+        eventPublisher.publishAsync(PostDeletedEvent.TOPIC, String.valueOf(id),
+                new PostDeletedEvent(id, LocalDateTime.now()));
     }
 
     @Override
@@ -106,6 +169,16 @@ public class PostService implements PostUseCase {
         });
     }
 
+    private static String cacheKey(Long id) {
+        return CACHE_KEY_PREFIX + id;
+    }
+
+    private void validateLimit(int limit) {
+        if (limit < 1 || limit > CursorPage.MAX_LIMIT) {
+            throw new ValidationException("limit", "must be between 1 and " + CursorPage.MAX_LIMIT);
+        }
+    }
+
     private void validateCreatePostCommand(CreatePostCommand command) {
         if (command == null) {
             throw new ValidationException("CreatePostCommand cannot be null");
@@ -1,6 +1,10 @@
 package kr.co.jparangdev.application.post;
 
+import kr.co.jparangdev.application.common.bulk.BulkItemResult;
+import kr.co.jparangdev.application.common.pagination.CursorPage;
+
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * Post use case interface (input port).
@@ -8,11 +12,15 @@ import java.util.List;
 public interface PostUseCase {
     PostDto createPost(CreatePostCommand command);
 
+    List<BulkItemResult<PostDto>> createPosts(List<CreatePostCommand> commands);
+
     PostDto updatePost(UpdatePostCommand command);
 
     PostDto getPostById(Long id);
 
-    List<PostDto> getAllPosts();
+    CursorPage<PostDto> getPosts(Long after, int limit);
+
+    void exportPosts(Consumer<PostDto> sink);
 
     void deletePost(Long id);
 
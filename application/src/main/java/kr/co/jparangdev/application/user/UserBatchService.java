@@ -1,5 +1,7 @@
 package kr.co.jparangdev.application.user;
 
+import kr.co.jparangdev.application.common.cache.CacheAside;
+import kr.co.jparangdev.application.common.pagination.IdRange;
 import kr.co.jparangdev.domain.user.User;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -8,6 +10,7 @@ import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Service implementation for user batch operations.
@@ -17,25 +20,54 @@ import java.util.List;
 @RequiredArgsConstructor
 public class UserBatchService implements UserBatchUseCase {
 
+    private static final int DORMANT_CHUNK_SIZE = 1000;
+
     private final UserRepository userRepository;
+    private final CacheAside cacheAside;
     private final TransactionTemplate transactionTemplate;
 
     @Override
     public int processDormantUsers() {
-        LocalDateTime threshold = LocalDateTime.now().minusYears(1);
+        LocalDateTime threshold = LocalDateTime.now().minus(User.DORMANT_AFTER);
 
-        Integer result = transactionTemplate.execute(status -> {
-            List<User> targets = userRepository.findByLastLoginAtBeforeAndStatus(threshold, User.Status.ACTIVE);
+        // Each chunk commits on its own, so locks and the transaction stay short however many users qualify
+        // The set-based update does not return ids, so cached users show the new status once their entry expires
+        int total = 0;
+        int updated;
+        do {
+            Integer result = transactionTemplate.execute(status -> userRepository.transitionStatus(
+                    User.Status.ACTIVE, User.Status.DORMANT, threshold, DORMANT_CHUNK_SIZE));
+            updated = result != null ? result : 0;
+            total += updated;
+        } while (updated == DORMANT_CHUNK_SIZE);
 
-            for (User user : targets) {
-                user.switchToDormant();
-                userRepository.save(user);
-            }
+        log.info("Processed {} users to dormant status", total);
+        return total;
+    }
 
-            log.info("Processed {} users to dormant status", targets.size());
-            return targets.size();
-        });
+    @Override
+    public Optional<IdRange> findDormantCandidateIdRange(LocalDateTime lastLoginBefore) {
+        return userRepository.findIdRangeByStatusAndLastLoginAtBefore(User.Status.ACTIVE, lastLoginBefore);
+    }
 
-        return result != null ? result : 0;
+    @Override
+    public List<User> findDormantCandidates(LocalDateTime lastLoginBefore, long afterId, long maxId, int limit) {
+        return userRepository.findByStatusAndLastLoginAtBefore(
+                User.Status.ACTIVE, lastLoginBefore, afterId, maxId, limit);
+    }
+
+    @Override
+    public int saveDormantUsers(List<? extends User> users) {
+        List<Long> ids = users.stream()
+                .filter(user -> user.getStatus() == User.Status.DORMANT)
+                .map(User::getId)
+                .toList();
+
+        Integer updated = transactionTemplate.execute(status -> {
+            int count = userRepository.updateStatus(ids, User.Status.ACTIVE, User.Status.DORMANT);
+            cacheAside.evictAll(ids.stream().map(UserService::cacheKey).toList());
+            return count;
+        });
+        return updated != null ? updated : 0;
     }
 }
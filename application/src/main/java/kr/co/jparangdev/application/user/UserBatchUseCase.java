@@ -1,5 +1,12 @@
 package kr.co.jparangdev.application.user;
 
+import kr.co.jparangdev.application.common.pagination.IdRange;
+import kr.co.jparangdev.domain.user.User;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
 /**
  * User batch operation use case interface.
  */
@@ -11,4 +18,23 @@ public interface UserBatchUseCase {
      * @return the number of users processed
      */
     int processDormantUsers();
+
+    /**
+     * Returns the id range spanning all active users whose last login is before
+     * {@code lastLoginBefore}, or empty when there are none.
+     */
+    Optional<IdRange> findDormantCandidateIdRange(LocalDateTime lastLoginBefore);
+
+    /**
+     * Returns the next {@code limit} active users whose last login is before
+     * {@code lastLoginBefore}, with ids in {@code (afterId, maxId]}, in id order.
+     */
+    List<User> findDormantCandidates(LocalDateTime lastLoginBefore, long afterId, long maxId, int limit);
+
+    /**
+     * Persists the dormant status of users already switched with {@link User#switchToDormant()}.
+     *
+     * @return the number of users updated
+     */
+    int saveDormantUsers(List<? extends User> users);
 }
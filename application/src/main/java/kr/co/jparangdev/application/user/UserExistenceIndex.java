@@ -0,0 +1,21 @@
+package kr.co.jparangdev.application.user;
+
+import kr.co.jparangdev.application.common.index.ExistenceIndex;
+import kr.co.jparangdev.application.common.port.IdSetPort;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Ids of existing users, withdrawn ones included, for validating references to them.
+ */
+@Component
+public class UserExistenceIndex extends ExistenceIndex {
+
+    public UserExistenceIndex(IdSetPort idSetPort, UserRepository userRepository,
+            @Qualifier("readOnlyTransactionTemplate") TransactionTemplate readOnlyTransactionTemplate,
+            @Qualifier("primaryReadTransactionTemplate") TransactionTemplate primaryReadTransactionTemplate) {
+        super("users", idSetPort, readOnlyTransactionTemplate, primaryReadTransactionTemplate,
+                userRepository::existsById, userRepository::streamIds);
+    }
+}
@@ -0,0 +1,123 @@
+package kr.co.jparangdev.application.user;
+
+import kr.co.jparangdev.application.common.bloom.ScalableBloomFilter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * In-process Bloom filters over every username and email, so uniqueness checks only
+ * query the database when a value might already be taken.
+ * <p>
+ * The filters are built in the background from a streaming scan the first time they are
+ * consulted after startup, so servers that never create users never pay for the scan;
+ * until the build completes every value counts as possibly taken. Values of deleted or renamed
+ * users stay in the filter and just cost a lookup. Users created on other nodes are not
+ * seen until the next rebuild; the unique indexes on {@code users} remain the final guard.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserIdentityFilter {
+
+    private static final long INITIAL_CAPACITY = 100_000;
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+    /** Minimum gap between build attempts while no filter is available, e.g. after a failed scan. */
+    private static final long RETRY_INTERVAL_NANOS = Duration.ofMinutes(1).toNanos();
+
+    private final UserRepository userRepository;
+    @Qualifier("readOnlyTransactionTemplate")
+    private final TransactionTemplate readOnlyTransactionTemplate;
+
+    private final AtomicBoolean building = new AtomicBoolean();
+    private volatile Filters current;
+    private volatile Filters pending;
+    private volatile long lastBuildStartedAt = System.nanoTime() - RETRY_INTERVAL_NANOS;
+
+    public boolean mightContainUsername(String username) {
+        Filters filters = available();
+        return filters == null || filters.usernames.mightContain(username);
+    }
+
+    public boolean mightContainEmail(String email) {
+        Filters filters = available();
+        return filters == null || filters.emails.mightContain(email);
+    }
+
+    /**
+     * Adds a committed user's identity, including to a rebuild in progress.
+     */
+    public void record(String username, String email) {
+        Filters building = pending;
+        if (building != null) {
+            building.put(username, email);
+        }
+        Filters filters = current;
+        if (filters != null) {
+            filters.put(username, email);
+        }
+    }
+
+    public void rebuildAsync() {
+        if (!building.compareAndSet(false, true)) {
+            return;
+        }
+        lastBuildStartedAt = System.nanoTime();
+        Thread.ofPlatform().daemon().name("user-identity-filter").start(() -> {
+            try {
+                rebuild();
+            } catch (RuntimeException e) {
+                log.warn("User identity filter rebuild failed, uniqueness checks use the database: {}",
+                        e.getMessage());
+            } finally {
+                pending = null;
+                building.set(false);
+            }
+        });
+    }
+
+    /**
+     * Returns the built filters, or null while none are available, starting a build if due.
+     */
+    private Filters available() {
+        Filters filters = current;
+        if (filters == null && System.nanoTime() - lastBuildStartedAt >= RETRY_INTERVAL_NANOS) {
+            rebuildAsync();
+        }
+        return filters;
+    }
+
+    private void rebuild() {
+        long startedAt = System.nanoTime();
+        // Set before the scan starts, so users committed during the scan are recorded into it
+        Filters filters = new Filters();
+        pending = filters;
+        long[] count = {0};
+        readOnlyTransactionTemplate.executeWithoutResult(status -> userRepository.streamAll(user -> {
+            filters.put(user.getUsername(), user.getEmail());
+            count[0]++;
+        }));
+        current = filters;
+        log.info("Built user identity filter over {} users in {} ms",
+                count[0], (System.nanoTime() - startedAt) / 1_000_000);
+    }
+
+    private static final class Filters {
+        private final ScalableBloomFilter usernames = new ScalableBloomFilter(INITIAL_CAPACITY, FALSE_POSITIVE_RATE);
+        private final ScalableBloomFilter emails = new ScalableBloomFilter(INITIAL_CAPACITY, FALSE_POSITIVE_RATE);
+
+        void put(String username, String email) {
+            if (username != null) {
+                usernames.put(username);
+            }
+            if (email != null) {
+                emails.put(email);
+            }
+        }
+    }
+}
@@ -1,10 +1,13 @@
 package kr.co.jparangdev.application.user;
 
+import kr.co.jparangdev.application.common.pagination.IdRange;
 import kr.co.jparangdev.domain.user.User;
 
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
 
 /**
  * User repository port interface.
@@ -12,11 +15,62 @@ import java.util.Optional;
 public interface UserRepository {
     User save(User user);
 
+    List<User> saveAll(List<User> users);
+
     Optional<User> findById(Long id);
 
-    List<User> findAll();
+    boolean existsById(Long id);
+
+    boolean existsByUsername(String username);
+
+    boolean existsByEmail(String email);
+
+    List<User> findAllAfter(Long afterId, int limit);
+
+    /**
+     * Deletes the user with one statement, without loading it first.
+     *
+     * @return the number of rows deleted, 0 if no such user exists
+     */
+    int deleteById(Long id);
+
+    /**
+     * Streams every user in id order without loading the table into memory.
+     * Must be called inside a transaction so the rows can be read through a cursor.
+     */
+    void streamAll(Consumer<User> action);
+
+    /**
+     * Streams every user id in id order; like {@link #streamAll}, must be called inside a transaction.
+     */
+    void streamIds(LongConsumer action);
+
+    /**
+     * Moves at most {@code limit} users in status {@code from} whose last login is
+     * before {@code lastLoginBefore} to status {@code to}, as one set-based UPDATE.
+     *
+     * @return the number of users updated; less than {@code limit} once no candidates remain
+     */
+    int transitionStatus(User.Status from, User.Status to, LocalDateTime lastLoginBefore, int limit);
+
+    /**
+     * Returns the smallest and largest id among users in {@code status} whose last
+     * login is before {@code lastLoginBefore}, or empty when there are none.
+     */
+    Optional<IdRange> findIdRangeByStatusAndLastLoginAtBefore(User.Status status, LocalDateTime lastLoginBefore);
 
-    void deleteById(Long id);
+    /**
+     * Keyset scan over users in {@code status} whose last login is before
+     * {@code lastLoginBefore}, with ids in {@code (afterId, maxId]}, in id order.
+     */
+    List<User> findByStatusAndLastLoginAtBefore(User.Status status, LocalDateTime lastLoginBefore,
+            long afterId, long maxId, int limit);
 
-    List<User> findByLastLoginAtBeforeAndStatus(LocalDateTime dateTime, User.Status status);
+    /**
+     * Sets status {@code to} on the given users that are still in status {@code from},
+     * as one UPDATE.
+     *
+     * @return the number of users updated
+     */
+    int updateStatus(List<Long> ids, User.Status from, User.Status to);
 }
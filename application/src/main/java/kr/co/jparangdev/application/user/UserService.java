@@ -1,14 +1,27 @@
 package kr.co.jparangdev.application.user;
 
+import kr.co.jparangdev.application.common.bulk.BulkItemResult;
+import kr.co.jparangdev.application.common.bulk.BulkProcessor;
+import kr.co.jparangdev.application.common.cache.CacheAside;
+import kr.co.jparangdev.application.common.cache.NegativeCache;
 import kr.co.jparangdev.application.common.exception.NotFoundException;
 import kr.co.jparangdev.application.common.exception.ValidationException;
+import kr.co.jparangdev.application.common.pagination.CursorPage;
 import kr.co.jparangdev.domain.user.User;
 import lombok.RequiredArgsConstructor;
 
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.Duration;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 /**
  * User use case implementation.
@@ -17,16 +30,30 @@ import java.util.List;
 @RequiredArgsConstructor
 public class UserService implements UserUseCase {
 
+    private static final String CACHE_KEY_PREFIX = "user:";
+    private static final Duration CACHE_TTL = Duration.ofMinutes(10);
+    /** Unique index names from the V3 migration. */
+    private static final String USERNAME_UNIQUE_INDEX = "uk_users_username";
+    private static final String EMAIL_UNIQUE_INDEX = "uk_users_email";
+
     private final UserRepository userRepository;
+    private final CacheAside cacheAside;
+    private final NegativeCache negativeCache;
+    private final UserIdentityFilter userIdentityFilter;
+    private final UserExistenceIndex userExistenceIndex;
     private final TransactionTemplate transactionTemplate;
+    @Qualifier("readOnlyTransactionTemplate")
     private final TransactionTemplate readOnlyTransactionTemplate;
+    @Qualifier("primaryReadTransactionTemplate")
+    private final TransactionTemplate primaryReadTransactionTemplate;
 
     @Override
     public UserDto createUser(CreateUserCommand command) {
         validateCreateUserCommand(command);
 
-        return transactionTemplate.execute(status -> {
+        UserDto created = withUniqueIdentity(() -> transactionTemplate.execute(status -> {
             try {
+                validateUniqueIdentity(command.getUsername(), command.getEmail());
                 User user = new User(command.getUsername(), command.getEmail());
                 User savedUser = userRepository.save(user);
                 return UserDto.from(savedUser);
@@ -34,28 +61,72 @@ public class UserService implements UserUseCase {
                 status.setRollbackOnly();
                 throw new ValidationException(e.getMessage());
             }
-        });
+        }));
+        userIdentityFilter.record(created.getUsername(), created.getEmail());
+        negativeCache.evict(cacheKey(created.getId()));
+        userExistenceIndex.added(created.getId());
+        return created;
+    }
+
+    @Override
+    public List<BulkItemResult<UserDto>> createUsers(List<CreateUserCommand> commands) {
+        // Values claimed by earlier valid items; the filter and the database cannot see them yet
+        Set<String> requestUsernames = new HashSet<>();
+        Set<String> requestEmails = new HashSet<>();
+        return BulkProcessor.process(
+                commands,
+                command -> {
+                    validateCreateUserCommand(command);
+                    if (requestUsernames.contains(command.getUsername())) {
+                        throw new ValidationException("username", "is repeated in this request");
+                    }
+                    if (requestEmails.contains(command.getEmail())) {
+                        throw new ValidationException("email", "is repeated in this request");
+                    }
+                    validateUniqueIdentity(command.getUsername(), command.getEmail());
+                    User user = new User(command.getUsername(), command.getEmail());
+                    requestUsernames.add(user.getUsername());
+                    requestEmails.add(user.getEmail());
+                    return user;
+                },
+                users -> {
+                    List<User> saved = withUniqueIdentity(() ->
+                            transactionTemplate.execute(status -> userRepository.saveAll(users)));
+                    saved.forEach(user -> {
+                        userIdentityFilter.record(user.getUsername(), user.getEmail());
+                        negativeCache.evict(cacheKey(user.getId()));
+                        userExistenceIndex.added(user.getId());
+                    });
+                    return saved;
+                },
+                UserDto::from);
     }
 
     @Override
     public UserDto updateUser(UpdateUserCommand command) {
         validateUpdateUserCommand(command);
 
-        return transactionTemplate.execute(status -> {
+        UserDto updated = withUniqueIdentity(() -> transactionTemplate.execute(status -> {
             try {
                 User user = userRepository.findById(command.getId())
                         .orElseThrow(() -> new NotFoundException("User", command.getId()));
+                validateUniqueIdentity(
+                        command.getUsername().equals(user.getUsername()) ? null : command.getUsername(),
+                        command.getEmail().equals(user.getEmail()) ? null : command.getEmail());
                 user.updateProfile(command.getUsername(), command.getEmail());
                 User updatedUser = userRepository.save(user);
+                cacheAside.evict(cacheKey(updatedUser.getId()));
                 return UserDto.from(updatedUser);
             } catch (IllegalArgumentException e) {
                 status.setRollbackOnly();
                 throw new ValidationException(e.getMessage());
-            } catch (NotFoundException e) {
+            } catch (NotFoundException | ValidationException e) {
                 status.setRollbackOnly();
                 throw e;
             }
-        });
+        }));
+        userIdentityFilter.record(updated.getUsername(), updated.getEmail());
+        return updated;
     }
 
     @Override
@@ -64,16 +135,29 @@ public class UserService implements UserUseCase {
             throw new ValidationException("id", "cannot be null");
         }
 
-        return readOnlyTransactionTemplate.execute(status -> userRepository.findById(id)
-                .map(UserDto::from)
-                .orElseThrow(() -> new NotFoundException("User", id)));
+        return cacheAside.get(cacheKey(id), UserDto.class, CACHE_TTL,
+                () -> primaryReadTransactionTemplate.execute(status -> userRepository.findById(id)
+                        .map(UserDto::from)
+                        .orElseThrow(() -> new NotFoundException("User", id))));
     }
 
     @Override
-    public List<UserDto> getAllUsers() {
-        return readOnlyTransactionTemplate.execute(status -> userRepository.findAll().stream()
-                .map(UserDto::from)
-                .toList());
+    public CursorPage<UserDto> getUsers(Long after, int limit) {
+        validateLimit(limit);
+        Long afterId = after != null ? after : 0L;
+
+        return readOnlyTransactionTemplate.execute(status -> CursorPage.of(
+                userRepository.findAllAfter(afterId, limit + 1).stream()
+                        .map(UserDto::from)
+                        .toList(),
+                limit,
+                user -> String.valueOf(user.getId())));
+    }
+
+    @Override
+    public void exportUsers(Consumer<UserDto> sink) {
+        readOnlyTransactionTemplate.executeWithoutResult(status -> userRepository.streamAll(
+                user -> sink.accept(UserDto.from(user))));
     }
 
     @Override
@@ -83,12 +167,13 @@ public class UserService implements UserUseCase {
         }
 
         transactionTemplate.executeWithoutResult(status -> {
-            if (!userRepository.findById(id).isPresent()) {
+            if (userRepository.deleteById(id) == 0) {
                 status.setRollbackOnly();
                 throw new NotFoundException("User", id);
             }
-            userRepository.deleteById(id);
+            cacheAside.evict(cacheKey(id));
         });
+        userExistenceIndex.removed(id);
     }
 
     @Override
@@ -104,6 +189,54 @@ public class UserService implements UserUseCase {
         });
     }
 
+    /**
+     * Cache key of a user's {@link UserDto}, shared with the other user services that change it.
+     */
+    static String cacheKey(Long id) {
+        return CACHE_KEY_PREFIX + id;
+    }
+
+    /**
+     * Rejects a username or email (null to skip) that is already taken. The Bloom filter answers
+     * "definitely free" without a query; only possible matches are looked up in the database.
+     */
+    private void validateUniqueIdentity(String username, String email) {
+        if (username != null && userIdentityFilter.mightContainUsername(username)
+                && userRepository.existsByUsername(username)) {
+            throw new ValidationException("username", "is already taken");
+        }
+        if (email != null && userIdentityFilter.mightContainEmail(email)
+                && userRepository.existsByEmail(email)) {
+            throw new ValidationException("email", "is already taken");
+        }
+    }
+
+    /**
+     * Maps a violation of the username or email unique index, from a concurrent signup or a value
+     * this node's filter has not seen yet, to the same validation error the pre-check raises.
+     * Any other integrity violation is rethrown unchanged.
+     */
+    private static <T> T withUniqueIdentity(Supplier<T> write) {
+        try {
+            return write.get();
+        } catch (DataIntegrityViolationException e) {
+            String detail = String.valueOf(e.getMostSpecificCause().getMessage()).toLowerCase(Locale.ROOT);
+            if (detail.contains(USERNAME_UNIQUE_INDEX)) {
+                throw new ValidationException("username", "is already taken");
+            }
+            if (detail.contains(EMAIL_UNIQUE_INDEX)) {
+                throw new ValidationException("email", "is already taken");
+            }
+            throw e;
+        }
+    }
+
+    private void validateLimit(int limit) {
+        if (limit < 1 || limit > CursorPage.MAX_LIMIT) {
+            throw new ValidationException("limit", "must be between 1 and " + CursorPage.MAX_LIMIT);
+        }
+    }
+
     private void validateCreateUserCommand(CreateUserCommand command) {
         if (command == null) {
             throw new ValidationException("CreateUserCommand cannot be null");
@@ -1,6 +1,10 @@
 package kr.co.jparangdev.application.user;
 
+import kr.co.jparangdev.application.common.bulk.BulkItemResult;
+import kr.co.jparangdev.application.common.pagination.CursorPage;
+
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * User use case interface (input port).
@@ -8,11 +12,15 @@ import java.util.List;
 public interface UserUseCase {
     UserDto createUser(CreateUserCommand command);
 
+    List<BulkItemResult<UserDto>> createUsers(List<CreateUserCommand> commands);
+
     UserDto updateUser(UpdateUserCommand command);
 
     UserDto getUserById(Long id);
 
-    List<UserDto> getAllUsers();
+    CursorPage<UserDto> getUsers(Long after, int limit);
+
+    void exportUsers(Consumer<UserDto> sink);
 
     void deleteUser(Long id);
 
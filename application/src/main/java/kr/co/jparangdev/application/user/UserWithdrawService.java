@@ -1,5 +1,6 @@
 package kr.co.jparangdev.application.user;
 
+import kr.co.jparangdev.application.common.cache.CacheAside;
 import kr.co.jparangdev.application.common.exception.NotFoundException;
 import kr.co.jparangdev.domain.user.User;
 import lombok.RequiredArgsConstructor;
@@ -16,6 +17,7 @@ import org.springframework.transaction.support.TransactionTemplate;
 public class UserWithdrawService implements UserWithdrawUseCase {
 
     private final UserRepository userRepository;
+    private final CacheAside cacheAside;
     private final TransactionTemplate transactionTemplate;
 
     @Override
@@ -26,6 +28,7 @@ public class UserWithdrawService implements UserWithdrawUseCase {
             
             user.withdraw();
             userRepository.save(user);
+            cacheAside.evict(UserService.cacheKey(userId));
             
             log.info("User {} has been withdrawn", userId);
         });
@@ -0,0 +1,48 @@
+package kr.co.jparangdev.application.common.bloom;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ScalableBloomFilterTest {
+
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+
+    @Test
+    void reportsEveryAddedValue() {
+        ScalableBloomFilter filter = new ScalableBloomFilter(10_000, FALSE_POSITIVE_RATE);
+        IntStream.range(0, 10_000).forEach(i -> filter.put("user" + i));
+
+        assertThat(IntStream.range(0, 10_000)).allMatch(i -> filter.mightContain("user" + i));
+    }
+
+    @Test
+    void keepsReportingAddedValuesAfterGrowingPastItsInitialCapacity() {
+        ScalableBloomFilter filter = new ScalableBloomFilter(1_000, FALSE_POSITIVE_RATE);
+        IntStream.range(0, 50_000).forEach(i -> filter.put("user" + i));
+
+        assertThat(IntStream.range(0, 50_000)).allMatch(i -> filter.mightContain("user" + i));
+    }
+
+    @Test
+    void falsePositiveRateStaysNearTheTargetAfterGrowth() {
+        ScalableBloomFilter filter = new ScalableBloomFilter(1_000, FALSE_POSITIVE_RATE);
+        IntStream.range(0, 50_000).forEach(i -> filter.put("user" + i));
+
+        long falsePositives = IntStream.range(0, 100_000)
+                .filter(i -> filter.mightContain("absent" + i))
+                .count();
+
+        // Bounded by the target; the margin absorbs sampling noise
+        assertThat(falsePositives / 100_000.0).isLessThan(FALSE_POSITIVE_RATE * 1.5);
+    }
+
+    @Test
+    void emptyFilterContainsNothing() {
+        ScalableBloomFilter filter = new ScalableBloomFilter(1_000, FALSE_POSITIVE_RATE);
+
+        assertThat(filter.mightContain("user")).isFalse();
+    }
+}
@@ -0,0 +1,101 @@
+package kr.co.jparangdev.application.common.cache;
+
+import kr.co.jparangdev.application.common.port.CachePort;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CacheAsideTest {
+
+    private static final String KEY = "post:1";
+    private static final Duration TTL = Duration.ofMinutes(10);
+
+    private CachePort cachePort;
+    private CacheAside cacheAside;
+
+    @BeforeEach
+    void setUp() {
+        cachePort = mock(CachePort.class);
+        when(cachePort.get(anyString(), eq(CacheEntry.class))).thenReturn(Optional.empty());
+        cacheAside = new CacheAside(cachePort, new NegativeCache());
+    }
+
+    @AfterEach
+    void tearDown() {
+        cacheAside.shutdown();
+    }
+
+    @Test
+    void cachesWhatTheLoaderReturns() {
+        assertThat(cacheAside.get(KEY, String.class, TTL, () -> "value")).isEqualTo("value");
+
+        verify(cachePort).put(eq(KEY), any(CacheEntry.class), any(Duration.class));
+    }
+
+    @Test
+    void dropsALoadThatAnEvictionOvertook() {
+        String value = cacheAside.get(KEY, String.class, TTL, () -> {
+            // An update commits and evicts while the loader still holds the old row
+            cacheAside.evict(KEY);
+            return "stale";
+        });
+
+        assertThat(value).isEqualTo("stale");
+        verify(cachePort, never()).put(eq(KEY), any(CacheEntry.class), any(Duration.class));
+    }
+
+    @Test
+    void undoesAWriteThatRacedWithAnEviction() {
+        // The eviction lands between the generation check and the cache write
+        doAnswer(invocation -> {
+            cacheAside.evict(KEY);
+            return null;
+        }).doNothing().when(cachePort).put(eq(KEY), any(CacheEntry.class), any(Duration.class));
+
+        cacheAside.get(KEY, String.class, TTL, () -> "stale");
+
+        InOrder order = inOrder(cachePort);
+        order.verify(cachePort).put(eq(KEY), any(CacheEntry.class), any(Duration.class));
+        order.verify(cachePort, times(2)).evict(KEY);
+    }
+
+    @Test
+    void evictionsOfOtherKeysDoNotDropALoad() {
+        cacheAside.get(KEY, String.class, TTL, () -> {
+            cacheAside.evict("post:2");
+            return "value";
+        });
+
+        verify(cachePort).put(eq(KEY), any(CacheEntry.class), any(Duration.class));
+    }
+
+    @Test
+    void initialVersionThatOverwroteABumpIsDropped() {
+        when(cachePort.get("feed-version:1", String.class)).thenAnswer(invocation -> {
+            cacheAside.bumpVersion("feed-version:1", TTL);
+            return Optional.empty();
+        });
+
+        cacheAside.currentVersion("feed-version:1", TTL);
+
+        InOrder order = inOrder(cachePort);
+        order.verify(cachePort, times(2)).put(eq("feed-version:1"), anyString(), eq(TTL));
+        order.verify(cachePort).evict("feed-version:1");
+    }
+}
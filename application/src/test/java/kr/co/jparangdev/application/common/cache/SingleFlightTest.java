@@ -0,0 +1,114 @@
+package kr.co.jparangdev.application.common.cache;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SingleFlightTest {
+
+    private static final int CALLERS = 8;
+
+    private final SingleFlight<String, String> singleFlight = new SingleFlight<>();
+    private final ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void concurrentCallersShareOneLoad() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+
+        List<Future<String>> results = callConcurrently("post:1", () -> {
+            loads.incrementAndGet();
+            await(release);
+            return "value";
+        });
+        release.countDown();
+
+        for (Future<String> result : results) {
+            assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("value");
+        }
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void waitingCallersGetTheLoadersException() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        IllegalStateException failure = new IllegalStateException("database down");
+
+        List<Future<String>> results = callConcurrently("post:1", () -> {
+            await(release);
+            throw failure;
+        });
+        release.countDown();
+
+        for (Future<String> result : results) {
+            assertThatThrownBy(() -> result.get(5, TimeUnit.SECONDS))
+                    .isInstanceOf(ExecutionException.class)
+                    .hasCauseReference(failure);
+        }
+    }
+
+    @Test
+    void differentKeysLoadIndependently() {
+        assertThat(singleFlight.execute("post:1", () -> "one")).isEqualTo("one");
+        assertThat(singleFlight.execute("post:2", () -> "two")).isEqualTo("two");
+    }
+
+    @Test
+    void keyIsReleasedOnceTheLoadCompletes() {
+        AtomicInteger loads = new AtomicInteger();
+
+        singleFlight.execute("post:1", () -> "v" + loads.incrementAndGet());
+        assertThatThrownBy(() -> singleFlight.execute("post:1", () -> {
+            loads.incrementAndGet();
+            throw new IllegalStateException();
+        })).isInstanceOf(IllegalStateException.class);
+
+        assertThat(singleFlight.execute("post:1", () -> "v" + loads.incrementAndGet())).isEqualTo("v3");
+    }
+
+    /**
+     * Starts {@link #CALLERS} calls for the key and returns once all but the loader are waiting on it.
+     */
+    private List<Future<String>> callConcurrently(String key, Supplier<String> loader)
+            throws InterruptedException {
+        CountDownLatch loading = new CountDownLatch(1);
+        List<Future<String>> results = new ArrayList<>();
+        for (int i = 0; i < CALLERS; i++) {
+            results.add(executor.submit(() -> singleFlight.execute(key, () -> {
+                loading.countDown();
+                return loader.get();
+            })));
+        }
+        assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+        // Give the other callers time to join the flight before the test releases the loader
+        Thread.sleep(100);
+        return results;
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
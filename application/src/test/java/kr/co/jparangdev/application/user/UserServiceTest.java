@@ -0,0 +1,106 @@
+package kr.co.jparangdev.application.user;
+
+import kr.co.jparangdev.application.common.bulk.BulkItemResult;
+import kr.co.jparangdev.application.common.cache.CacheAside;
+import kr.co.jparangdev.application.common.cache.NegativeCache;
+import kr.co.jparangdev.application.common.exception.ValidationException;
+import kr.co.jparangdev.domain.user.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class UserServiceTest {
+
+    private UserRepository userRepository;
+    private UserService userService;
+
+    @BeforeEach
+    void setUp() {
+        userRepository = mock(UserRepository.class);
+        TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+        when(transactionTemplate.execute(any())).thenAnswer(invocation -> invocation
+                .<TransactionCallback<?>>getArgument(0)
+                .doInTransaction(mock(TransactionStatus.class)));
+
+        // The identity filter reports every value as definitely free
+        userService = new UserService(userRepository, mock(CacheAside.class), new NegativeCache(),
+                mock(UserIdentityFilter.class), mock(UserExistenceIndex.class),
+                transactionTemplate, transactionTemplate, transactionTemplate);
+    }
+
+    @Test
+    void bulkCreateRejectsValuesRepeatedWithinTheRequest() {
+        givenSaveAllAssignsIds();
+
+        List<BulkItemResult<UserDto>> results = userService.createUsers(List.of(
+                new CreateUserCommand("alice", "alice@example.com"),
+                new CreateUserCommand("alice", "other@example.com"),
+                new CreateUserCommand("bob", "alice@example.com"),
+                new CreateUserCommand("carol", "carol@example.com")));
+
+        assertThat(results).extracting(BulkItemResult::isSuccess).containsExactly(true, false, false, true);
+        assertThat(results.get(1).getError()).contains("username");
+        assertThat(results.get(2).getError()).contains("email");
+        verify(userRepository).saveAll(argThat(users -> users.size() == 2));
+    }
+
+    @Test
+    void invalidItemDoesNotClaimItsValues() {
+        givenSaveAllAssignsIds();
+
+        List<BulkItemResult<UserDto>> results = userService.createUsers(List.of(
+                new CreateUserCommand("alice", "not-an-email"),
+                new CreateUserCommand("alice", "alice@example.com")));
+
+        assertThat(results).extracting(BulkItemResult::isSuccess).containsExactly(false, true);
+    }
+
+    @Test
+    void uniqueIndexViolationsMapToTheFieldTheyGuard() {
+        when(userRepository.save(any())).thenThrow(violation(
+                "ERROR: duplicate key value violates unique constraint \"uk_users_email\""));
+
+        assertThatThrownBy(() -> userService.createUser(new CreateUserCommand("alice", "alice@example.com")))
+                .isInstanceOf(ValidationException.class)
+                .hasMessageContaining("'email'");
+    }
+
+    @Test
+    void otherIntegrityViolationsAreRethrown() {
+        DataIntegrityViolationException violation = violation(
+                "ERROR: null value in column \"status\" violates not-null constraint");
+        when(userRepository.save(any())).thenThrow(violation);
+
+        assertThatThrownBy(() -> userService.createUser(new CreateUserCommand("alice", "alice@example.com")))
+                .isSameAs(violation);
+    }
+
+    private void givenSaveAllAssignsIds() {
+        AtomicLong ids = new AtomicLong();
+        when(userRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.<List<User>>getArgument(0)
+                .stream()
+                .map(user -> new User(ids.incrementAndGet(), user.getUsername(), user.getEmail(),
+                        user.getStatus(), user.getLastLoginAt(), null, null))
+                .toList());
+    }
+
+    private static DataIntegrityViolationException violation(String message) {
+        return new DataIntegrityViolationException("could not execute statement", new SQLException(message));
+    }
+}
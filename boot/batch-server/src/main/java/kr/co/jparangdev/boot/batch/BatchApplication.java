@@ -1,6 +1,8 @@
 package kr.co.jparangdev.boot.batch;
 
 import kr.co.jparangdev.application.config.EnableApplicationModule;
+import kr.co.jparangdev.transients.config.EnableTransientsModule;
+import kr.co.jparangdev.messaging.config.EnableMessagingModule;
 import kr.co.jparangdev.persistence.config.EnablePersistenceModule;
 import kr.co.jparangdev.presentation.batch.config.EnableBatchPresentationModule;
 import org.springframework.boot.SpringApplication;
@@ -8,6 +10,8 @@ import org.springframework.boot.autoconfigure.SpringBootApplication;
 
 @EnableApplicationModule
 @EnablePersistenceModule
+@EnableTransientsModule
+@EnableMessagingModule
 @EnableBatchPresentationModule
 @SpringBootApplication
 public class BatchApplication {
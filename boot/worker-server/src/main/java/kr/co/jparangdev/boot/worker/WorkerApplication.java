@@ -4,6 +4,7 @@ import kr.co.jparangdev.application.config.EnableApplicationModule;
 import kr.co.jparangdev.transients.config.EnableTransientsModule;
 import kr.co.jparangdev.persistence.config.EnablePersistenceModule;
 import kr.co.jparangdev.messaging.config.EnableMessagingModule;
+import kr.co.jparangdev.presentation.worker.config.EnableWorkerPresentationModule;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 
@@ -11,6 +12,7 @@ import org.springframework.boot.autoconfigure.SpringBootApplication;
 @EnablePersistenceModule
 @EnableTransientsModule
 @EnableMessagingModule
+@EnableWorkerPresentationModule
 @SpringBootApplication
 public class WorkerApplication {
     public static void main(String[] args) {
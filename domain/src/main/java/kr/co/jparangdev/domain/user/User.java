@@ -1,6 +1,7 @@
 package kr.co.jparangdev.domain.user;
 
 import java.time.LocalDateTime;
+import java.time.Period;
 import java.util.regex.Pattern;
 
 import lombok.*;
@@ -12,6 +13,11 @@ import lombok.*;
 public class User {
     private static final Pattern EMAIL_PATTERN = Pattern.compile("^[A-Za-z0-9+_.-]+@[A-Za-z0-9.-]+\\.[A-Za-z]{2,}$");
 
+    /**
+     * How long an active user may go without logging in before becoming dormant.
+     */
+    public static final Period DORMANT_AFTER = Period.ofYears(1);
+
     public enum Status {
         ACTIVE, DORMANT, DELETED
     }
@@ -28,6 +28,9 @@ public class KafkaProducerConfig {
         configProps.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true);
         configProps.put(ProducerConfig.ACKS_CONFIG, "all");
         configProps.put(ProducerConfig.RETRIES_CONFIG, 3);
+        // send() blocks the caller while broker metadata is unavailable; bound that wait so
+        // request threads publishing asynchronously are not held for the 60s default
+        configProps.put(ProducerConfig.MAX_BLOCK_MS_CONFIG, 5_000);
         return new DefaultKafkaProducerFactory<>(configProps);
     }
 
@@ -1,13 +1,18 @@
 package kr.co.jparangdev.persistence.comment;
 
 import jakarta.persistence.Entity;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import kr.co.jparangdev.persistence.common.BaseJpaEntity;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.DynamicUpdate;
 
 @Entity
-@Table(name = "comments")
+@DynamicUpdate
+@Table(name = "comments", indexes = {
+        @Index(name = "idx_comments_post_id_created_at_id", columnList = "post_id, created_at, id")
+})
 @Getter
 @Setter
 public class CommentJpaEntity extends BaseJpaEntity {
@@ -1,11 +1,60 @@
 package kr.co.jparangdev.persistence.comment;
 
+import kr.co.jparangdev.application.comment.CommentDto;
 import kr.co.jparangdev.persistence.common.BaseJpaEntityRepository;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface CommentJpaRepository extends BaseJpaEntityRepository<CommentJpaEntity, Long> {
-    List<CommentJpaEntity> findByPostId(Long postId);
+    @Query("""
+            select new kr.co.jparangdev.application.comment.CommentDto(
+                c.id, c.content, c.postId, c.authorId, c.createdAt, c.updatedAt)
+            from CommentJpaEntity c
+            where c.postId = :postId
+            order by c.createdAt desc, c.id desc
+            """)
+    List<CommentDto> findFeed(@Param("postId") Long postId, Limit limit);
+
+    /**
+     * The row-value comparison lets PostgreSQL seek in the (post_id, created_at, id)
+     * index instead of filtering every comment newer than the cursor.
+     */
+    @Query("""
+            select new kr.co.jparangdev.application.comment.CommentDto(
+                c.id, c.content, c.postId, c.authorId, c.createdAt, c.updatedAt)
+            from CommentJpaEntity c
+            where c.postId = :postId and (c.createdAt, c.id) < (:createdAt, :id)
+            order by c.createdAt desc, c.id desc
+            """)
+    List<CommentDto> findFeedBefore(@Param("postId") Long postId, @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") Long id, Limit limit);
+
+    @Query("select c.postId from CommentJpaEntity c where c.id = :id")
+    Optional<Long> findPostIdById(@Param("id") Long id);
+
+    @Modifying
+    @Query("delete from CommentJpaEntity c where c.id = :id")
+    int deleteRowById(@Param("id") Long id);
+
+    @Modifying
+    @Query(value = """
+            DELETE FROM comments
+            WHERE id IN (SELECT id FROM comments WHERE post_id = :postId LIMIT :limit)
+            """, nativeQuery = true)
+    int deleteByPostId(@Param("postId") Long postId, @Param("limit") int limit);
+
+    @Query(value = """
+            SELECT DISTINCT c.post_id FROM comments c
+            WHERE NOT EXISTS (SELECT 1 FROM posts p WHERE p.id = c.post_id)
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<Long> findOrphanedPostIds(@Param("limit") int limit);
 }
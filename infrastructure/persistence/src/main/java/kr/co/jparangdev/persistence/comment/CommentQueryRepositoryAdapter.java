@@ -0,0 +1,30 @@
+package kr.co.jparangdev.persistence.comment;
+
+import kr.co.jparangdev.application.comment.CommentDto;
+import kr.co.jparangdev.application.comment.CommentQueryRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Constructor-expression queries: rows are mapped straight into DTOs, so no managed
+ * entities or dirty-checking snapshots are created.
+ */
+@Repository
+@RequiredArgsConstructor
+public class CommentQueryRepositoryAdapter implements CommentQueryRepository {
+
+    private final CommentJpaRepository commentJpaRepository;
+
+    @Override
+    public List<CommentDto> findFeedByPostId(Long postId, LocalDateTime beforeCreatedAt, Long beforeId,
+            int limit) {
+        if (beforeCreatedAt == null || beforeId == null) {
+            return commentJpaRepository.findFeed(postId, Limit.of(limit));
+        }
+        return commentJpaRepository.findFeedBefore(postId, beforeCreatedAt, beforeId, Limit.of(limit));
+    }
+}
@@ -2,41 +2,84 @@ package kr.co.jparangdev.persistence.comment;
 
 import kr.co.jparangdev.application.comment.CommentRepository;
 import kr.co.jparangdev.domain.comment.Comment;
+import kr.co.jparangdev.persistence.common.CursorQueries;
+import kr.co.jparangdev.persistence.common.id.SnowflakeIdGenerator;
 import lombok.RequiredArgsConstructor;
 
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
 import org.springframework.stereotype.Repository;
 
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 @Repository
 @RequiredArgsConstructor
 public class CommentRepositoryAdapter implements CommentRepository {
 
+    private static final String STREAM_ALL_SQL =
+            "SELECT id, content, post_id, author_id, created_at, updated_at FROM comments ORDER BY id";
+
     private final CommentJpaRepository commentJpaRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final SnowflakeIdGenerator idGenerator;
 
     @Override
     public Comment save(Comment comment) {
-        CommentJpaEntity commentJpaEntity = toJpaEntity(comment);
-        CommentJpaEntity savedEntity = commentJpaRepository.save(commentJpaEntity);
+        if (comment.getId() != null) {
+            Optional<CommentJpaEntity> managedEntity = commentJpaRepository.findById(comment.getId());
+            if (managedEntity.isPresent()) {
+                applyChanges(comment, managedEntity.get());
+                return toDomain(managedEntity.get());
+            }
+        }
+        CommentJpaEntity savedEntity = commentJpaRepository.save(toPersistableEntity(comment));
         return toDomain(savedEntity);
     }
 
+    @Override
+    public List<Comment> saveAll(List<Comment> comments) {
+        List<CommentJpaEntity> entities = comments.stream()
+                .map(this::toPersistableEntity)
+                .toList();
+        return commentJpaRepository.saveAll(entities).stream()
+                .map(this::toDomain)
+                .toList();
+    }
+
     @Override
     public Optional<Comment> findById(Long id) {
         return commentJpaRepository.findById(id).map(this::toDomain);
     }
 
     @Override
-    public List<Comment> findByPostId(Long postId) {
-        return commentJpaRepository.findByPostId(postId).stream()
-                .map(this::toDomain)
-                .toList();
+    public Optional<Long> findPostIdById(Long id) {
+        return commentJpaRepository.findPostIdById(id);
+    }
+
+    @Override
+    public int deleteById(Long id) {
+        return commentJpaRepository.deleteRowById(id);
+    }
+
+    @Override
+    public int deleteByPostId(Long postId, int limit) {
+        return commentJpaRepository.deleteByPostId(postId, limit);
+    }
+
+    @Override
+    public List<Long> findOrphanedPostIds(int limit) {
+        return commentJpaRepository.findOrphanedPostIds(limit);
     }
 
     @Override
-    public void deleteById(Long id) {
-        commentJpaRepository.deleteById(id);
+    public void streamAll(Consumer<Comment> action) {
+        jdbcTemplate.query(CursorQueries.forwardOnly(STREAM_ALL_SQL, CursorQueries.DEFAULT_FETCH_SIZE),
+                (RowCallbackHandler) rs -> action.accept(mapRow(rs)));
     }
 
     private CommentJpaEntity toJpaEntity(Comment comment) {
@@ -50,6 +93,29 @@ public class CommentRepositoryAdapter implements CommentRepository {
         return commentJpaEntity;
     }
 
+    private Comment mapRow(ResultSet rs) throws SQLException {
+        return new Comment(
+                rs.getLong("id"),
+                rs.getString("content"),
+                rs.getLong("post_id"),
+                rs.getLong("author_id"),
+                rs.getObject("created_at", LocalDateTime.class),
+                rs.getObject("updated_at", LocalDateTime.class));
+    }
+
+    private void applyChanges(Comment comment, CommentJpaEntity commentJpaEntity) {
+        commentJpaEntity.setContent(comment.getContent());
+        commentJpaEntity.setUpdatedAt(comment.getUpdatedAt());
+    }
+
+    private CommentJpaEntity toPersistableEntity(Comment comment) {
+        CommentJpaEntity commentJpaEntity = toJpaEntity(comment);
+        if (commentJpaEntity.getId() == null) {
+            commentJpaEntity.assignId(idGenerator.nextId());
+        }
+        return commentJpaEntity;
+    }
+
     private Comment toDomain(CommentJpaEntity commentJpaEntity) {
         return new Comment(
                 commentJpaEntity.getId(),
@@ -1,10 +1,12 @@
 package kr.co.jparangdev.persistence.common;
 
 import jakarta.persistence.*;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.domain.Persistable;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import java.time.LocalDateTime;
@@ -13,10 +15,13 @@ import java.time.LocalDateTime;
 @EntityListeners(AuditingEntityListener.class)
 @Getter
 @Setter
-public abstract class BaseJpaEntity {
+public abstract class BaseJpaEntity implements Persistable<Long> {
 
+    /**
+     * Assigned by the application (see SnowflakeIdGenerator) so inserts need no
+     * round trip to learn the key and can be batched by Hibernate.
+     */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
     @CreatedDate
@@ -25,4 +30,29 @@ public abstract class BaseJpaEntity {
 
     @LastModifiedDate
     private LocalDateTime updatedAt;
+
+    @Transient
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private boolean newEntity;
+
+    /**
+     * Sets a freshly generated id and marks the entity as new, so that saving it
+     * issues a plain INSERT instead of a merge (SELECT + INSERT).
+     */
+    public void assignId(Long id) {
+        this.id = id;
+        this.newEntity = true;
+    }
+
+    @Override
+    public boolean isNew() {
+        return newEntity || id == null;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.newEntity = false;
+    }
 }
@@ -0,0 +1,28 @@
+package kr.co.jparangdev.persistence.common;
+
+import org.springframework.jdbc.core.PreparedStatementCreator;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+
+/**
+ * Helpers for reading large result sets through a server-side cursor.
+ * The driver only streams rows (instead of buffering the whole result) when the
+ * statement is forward-only, has a fetch size and runs inside a transaction.
+ */
+public final class CursorQueries {
+
+    public static final int DEFAULT_FETCH_SIZE = 500;
+
+    private CursorQueries() {
+    }
+
+    public static PreparedStatementCreator forwardOnly(String sql, int fetchSize) {
+        return connection -> {
+            PreparedStatement statement = connection.prepareStatement(
+                    sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(fetchSize);
+            return statement;
+        };
+    }
+}
@@ -0,0 +1,11 @@
+package kr.co.jparangdev.persistence.common;
+
+/**
+ * Projection for {@code min(id)} / {@code max(id)} aggregate queries.
+ * Both values are {@code null} when no row matches.
+ */
+public interface IdRangeProjection {
+    Long getMinId();
+
+    Long getMaxId();
+}
@@ -0,0 +1,65 @@
+package kr.co.jparangdev.persistence.common.id;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free generator of time-ordered 64-bit IDs (Snowflake layout).
+ *
+ * <pre>
+ * | 1 bit unused | 41 bits millis since EPOCH | 10 bits node id | 12 bits sequence |
+ * </pre>
+ *
+ * <p>
+ * IDs issued by one node are strictly increasing. When more than 4096 IDs are
+ * requested within one millisecond, or the clock moves backwards, the generator
+ * keeps counting from the last issued value instead of blocking; the logical clock
+ * simply runs slightly ahead until wall time catches up.
+ * </p>
+ * <p>
+ * IDs are only unique across nodes if every running instance has its own
+ * {@code persistence.id.node-id}. There is deliberately no default: two instances
+ * sharing one would issue the same IDs within a millisecond, so startup fails
+ * until the property is set.
+ * </p>
+ */
+@Component
+public class SnowflakeIdGenerator {
+
+    /** 2024-01-01T00:00:00Z */
+    static final long EPOCH = 1704067200000L;
+
+    private static final int NODE_ID_BITS = 10;
+    private static final int SEQUENCE_BITS = 12;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+    public static final long MAX_NODE_ID = (1L << NODE_ID_BITS) - 1;
+
+    private final long nodeIdBits;
+
+    /** (timestamp << SEQUENCE_BITS) | sequence of the last issued ID. */
+    private final AtomicLong lastState = new AtomicLong();
+
+    public SnowflakeIdGenerator(@Value("${persistence.id.node-id:#{null}}") Long nodeId) {
+        if (nodeId == null) {
+            throw new IllegalStateException("persistence.id.node-id is not set; give every running instance "
+                    + "its own value between 0 and " + MAX_NODE_ID + ", e.g. via PERSISTENCE_ID_NODE_ID");
+        }
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("persistence.id.node-id must be between 0 and " + MAX_NODE_ID);
+        }
+        this.nodeIdBits = nodeId << SEQUENCE_BITS;
+    }
+
+    public long nextId() {
+        long state = lastState.updateAndGet(last -> {
+            long now = (System.currentTimeMillis() - EPOCH) << SEQUENCE_BITS;
+            // A sequence overflow carries into the timestamp bits, borrowing the next millisecond
+            return now > last ? now : last + 1;
+        });
+        long timestamp = state >>> SEQUENCE_BITS;
+        long sequence = state & SEQUENCE_MASK;
+        return (timestamp << (NODE_ID_BITS + SEQUENCE_BITS)) | nodeIdBits | sequence;
+    }
+}
@@ -5,7 +5,7 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Import;
 
 @Configuration
-@Import(JpaConfig.class)
+@Import({ JpaConfig.class, ReplicaRoutingConfig.class })
 @ComponentScan(basePackages = "kr.co.jparangdev.persistence")
 public class PersistenceModuleConfig {
 }
@@ -6,8 +6,10 @@ import kr.co.jparangdev.persistence.common.BaseJpaEntity;
 import kr.co.jparangdev.domain.post.Post;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.DynamicUpdate;
 
 @Entity
+@DynamicUpdate
 @Table(name = "posts")
 @Getter
 @Setter
@@ -1,8 +1,29 @@
 package kr.co.jparangdev.persistence.post;
 
+import kr.co.jparangdev.application.post.PostDto;
 import kr.co.jparangdev.persistence.common.BaseJpaEntityRepository;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+import java.util.Optional;
+
 @Repository
 public interface PostJpaRepository extends BaseJpaEntityRepository<PostJpaEntity, Long> {
+    List<PostJpaEntity> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+
+    @Query("""
+            select new kr.co.jparangdev.application.post.PostDto(
+                p.id, p.title, p.content, p.authorId, p.createdAt, p.updatedAt)
+            from PostJpaEntity p
+            where p.id = :id
+            """)
+    Optional<PostDto> findDtoById(@Param("id") Long id);
+
+    @Modifying
+    @Query("delete from PostJpaEntity p where p.id = :id")
+    int deleteRowById(@Param("id") Long id);
 }
@@ -0,0 +1,24 @@
+package kr.co.jparangdev.persistence.post;
+
+import kr.co.jparangdev.application.post.PostDto;
+import kr.co.jparangdev.application.post.PostQueryRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+/**
+ * Constructor-expression queries: rows are mapped straight into DTOs, so no managed
+ * entities or dirty-checking snapshots are created.
+ */
+@Repository
+@RequiredArgsConstructor
+public class PostQueryRepositoryAdapter implements PostQueryRepository {
+
+    private final PostJpaRepository postJpaRepository;
+
+    @Override
+    public Optional<PostDto> findDtoById(Long id) {
+        return postJpaRepository.findDtoById(id);
+    }
+}
@@ -2,41 +2,116 @@ package kr.co.jparangdev.persistence.post;
 
 import kr.co.jparangdev.application.post.PostRepository;
 import kr.co.jparangdev.domain.post.Post;
+import kr.co.jparangdev.persistence.common.CursorQueries;
+import kr.co.jparangdev.persistence.common.id.SnowflakeIdGenerator;
 import lombok.RequiredArgsConstructor;
 
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
 import org.springframework.stereotype.Repository;
 
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
 
 @Repository
 @RequiredArgsConstructor
 public class PostRepositoryAdapter implements PostRepository {
 
+    private static final String STREAM_ALL_SQL =
+            "SELECT id, title, content, author_id, created_at, updated_at FROM posts ORDER BY id";
+    private static final String STREAM_IDS_SQL = "SELECT id FROM posts ORDER BY id";
+
     private final PostJpaRepository postJpaRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final SnowflakeIdGenerator idGenerator;
 
     @Override
     public Post save(Post post) {
-        PostJpaEntity postJpaEntity = PostJpaEntity.from(post);
-        PostJpaEntity savedEntity = postJpaRepository.save(postJpaEntity);
+        if (post.getId() != null) {
+            // Existing rows are updated through the managed entity: dirty checking then issues
+            // a single UPDATE of the changed columns instead of a merge
+            Optional<PostJpaEntity> managedEntity = postJpaRepository.findById(post.getId());
+            if (managedEntity.isPresent()) {
+                applyChanges(post, managedEntity.get());
+                return toDomain(managedEntity.get());
+            }
+        }
+        PostJpaEntity savedEntity = postJpaRepository.save(toPersistableEntity(post));
         return toDomain(savedEntity);
     }
 
+    @Override
+    public List<Post> saveAll(List<Post> posts) {
+        List<PostJpaEntity> entities = posts.stream()
+                .map(this::toPersistableEntity)
+                .toList();
+        return postJpaRepository.saveAll(entities).stream()
+                .map(this::toDomain)
+                .toList();
+    }
+
     @Override
     public Optional<Post> findById(Long id) {
         return postJpaRepository.findById(id).map(this::toDomain);
     }
 
     @Override
-    public List<Post> findAll() {
-        return postJpaRepository.findAll().stream()
+    public boolean existsById(Long id) {
+        return postJpaRepository.existsById(id);
+    }
+
+    @Override
+    public List<Post> findAllAfter(Long afterId, int limit) {
+        return postJpaRepository.findByIdGreaterThanOrderByIdAsc(afterId, Limit.of(limit)).stream()
                 .map(this::toDomain)
                 .toList();
     }
 
     @Override
-    public void deleteById(Long id) {
-        postJpaRepository.deleteById(id);
+    public int deleteById(Long id) {
+        return postJpaRepository.deleteRowById(id);
+    }
+
+    @Override
+    public void streamAll(Consumer<Post> action) {
+        jdbcTemplate.query(CursorQueries.forwardOnly(STREAM_ALL_SQL, CursorQueries.DEFAULT_FETCH_SIZE),
+                (RowCallbackHandler) rs -> action.accept(mapRow(rs)));
+    }
+
+    @Override
+    public void streamIds(LongConsumer action) {
+        jdbcTemplate.query(CursorQueries.forwardOnly(STREAM_IDS_SQL, CursorQueries.DEFAULT_FETCH_SIZE),
+                (RowCallbackHandler) rs -> action.accept(rs.getLong(1)));
+    }
+
+    private Post mapRow(ResultSet rs) throws SQLException {
+        return new Post(
+                rs.getLong("id"),
+                rs.getString("title"),
+                rs.getString("content"),
+                rs.getLong("author_id"),
+                rs.getObject("created_at", LocalDateTime.class),
+                rs.getObject("updated_at", LocalDateTime.class));
+    }
+
+    private PostJpaEntity toPersistableEntity(Post post) {
+        PostJpaEntity postJpaEntity = PostJpaEntity.from(post);
+        if (postJpaEntity.getId() == null) {
+            postJpaEntity.assignId(idGenerator.nextId());
+        }
+        return postJpaEntity;
+    }
+
+    private void applyChanges(Post post, PostJpaEntity postJpaEntity) {
+        postJpaEntity.setTitle(post.getTitle());
+        postJpaEntity.setContent(post.getContent());
+        postJpaEntity.setUpdatedAt(post.getUpdatedAt());
     }
 
     private Post toDomain(PostJpaEntity postJpaEntity) {
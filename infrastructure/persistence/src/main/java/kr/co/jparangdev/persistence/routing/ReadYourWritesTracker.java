@@ -0,0 +1,42 @@
+package kr.co.jparangdev.persistence.routing;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
+
+/**
+ * Remembers which clients committed a write recently, so their reads can be kept
+ * on the primary until replicas have had time to catch up.
+ * <p>
+ * Client ids come from a request header, so the set is bounded: expired entries are
+ * dropped incrementally by the cache, and beyond {@link #MAX_CLIENTS} the least recently
+ * written clients lose their pin early and read from the replicas again.
+ */
+public class ReadYourWritesTracker {
+
+    private static final int MAX_CLIENTS = 100_000;
+
+    private final Cache<String, Boolean> recentWriters;
+
+    public ReadYourWritesTracker(Duration window) {
+        this.recentWriters = Caffeine.newBuilder()
+                .expireAfterWrite(window)
+                .maximumSize(MAX_CLIENTS)
+                .build();
+    }
+
+    public void recordWrite(String clientId) {
+        if (clientId == null) {
+            return;
+        }
+        recentWriters.put(clientId, Boolean.TRUE);
+    }
+
+    public boolean isWithinWindow(String clientId) {
+        if (clientId == null) {
+            return false;
+        }
+        return recentWriters.getIfPresent(clientId) != null;
+    }
+}
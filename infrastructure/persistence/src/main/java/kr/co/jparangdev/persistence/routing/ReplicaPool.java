@@ -0,0 +1,110 @@
+package kr.co.jparangdev.persistence.routing;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Round-robin selection over replica data sources.
+ * Replication lag is checked on a fixed interval and replicas that are too far behind,
+ * or unreachable, are skipped until a later check finds them healthy again.
+ */
+@Slf4j
+public class ReplicaPool implements InitializingBean, DisposableBean {
+
+    private final Map<String, DataSource> replicas;
+    private final String lagQuery;
+    private final long maxLagMillis;
+    private final Duration checkInterval;
+    private final AtomicInteger counter = new AtomicInteger();
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "replica-lag-check");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private volatile List<String> healthyKeys = List.of();
+
+    public ReplicaPool(Map<String, DataSource> replicas, String lagQuery, Duration maxLag, Duration checkInterval) {
+        this.replicas = Map.copyOf(replicas);
+        this.lagQuery = lagQuery;
+        this.maxLagMillis = maxLag.toMillis();
+        this.checkInterval = checkInterval;
+    }
+
+    public Map<String, DataSource> getDataSources() {
+        return replicas;
+    }
+
+    /**
+     * @return the key of the next healthy replica, or empty when none is in rotation
+     */
+    public Optional<String> next() {
+        List<String> keys = healthyKeys;
+        if (keys.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(keys.get(Math.floorMod(counter.getAndIncrement(), keys.size())));
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        checkLag();
+        long intervalMillis = checkInterval.toMillis();
+        scheduler.scheduleWithFixedDelay(this::checkLag, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void destroy() {
+        scheduler.shutdownNow();
+        replicas.values().forEach(dataSource -> {
+            if (dataSource instanceof HikariDataSource hikariDataSource) {
+                hikariDataSource.close();
+            }
+        });
+    }
+
+    void checkLag() {
+        List<String> healthy = new ArrayList<>();
+        replicas.forEach((key, dataSource) -> {
+            if (isHealthy(key, dataSource)) {
+                healthy.add(key);
+            }
+        });
+        healthy.sort(null);
+
+        if (!healthy.equals(healthyKeys)) {
+            log.info("Replicas in rotation: {} of {}", healthy, replicas.keySet());
+        }
+        healthyKeys = List.copyOf(healthy);
+    }
+
+    private boolean isHealthy(String key, DataSource dataSource) {
+        try {
+            JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+            jdbcTemplate.setQueryTimeout((int) Math.max(1, checkInterval.toSeconds()));
+            Double lagMillis = jdbcTemplate.queryForObject(lagQuery, Double.class);
+            if (lagMillis == null || lagMillis > maxLagMillis) {
+                log.warn("Replica {} is lagging by {} ms, taking it out of rotation", key, lagMillis);
+                return false;
+            }
+            return true;
+        } catch (Exception e) {
+            log.warn("Replica {} lag check failed, taking it out of rotation: {}", key, e.getMessage());
+            return false;
+        }
+    }
+}
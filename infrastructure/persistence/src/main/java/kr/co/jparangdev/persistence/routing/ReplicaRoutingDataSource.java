@@ -0,0 +1,53 @@
+package kr.co.jparangdev.persistence.routing;
+
+import kr.co.jparangdev.application.common.config.TransactionConfig;
+import kr.co.jparangdev.application.common.context.ClientContextHolder;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Sends read-only transactions to a replica and everything else to the primary.
+ * A client that committed a write within the read-your-writes window keeps reading
+ * from the primary, as do transactions named
+ * {@link TransactionConfig#PRIMARY_READ_TRANSACTION_NAME}. Must be wrapped in a
+ * {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy} so the
+ * connection is chosen after the transaction's read-only flag has been set.
+ */
+@RequiredArgsConstructor
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    public static final String PRIMARY = "primary";
+
+    private final ReplicaPool replicaPool;
+    private final ReadYourWritesTracker readYourWritesTracker;
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        String clientId = ClientContextHolder.getClientId();
+
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            recordWriteOnCommit(clientId);
+            return PRIMARY;
+        }
+        if (TransactionConfig.PRIMARY_READ_TRANSACTION_NAME.equals(
+                TransactionSynchronizationManager.getCurrentTransactionName())
+                || readYourWritesTracker.isWithinWindow(clientId)) {
+            return PRIMARY;
+        }
+        return replicaPool.next().orElse(PRIMARY);
+    }
+
+    private void recordWriteOnCommit(String clientId) {
+        if (clientId == null || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                readYourWritesTracker.recordWrite(clientId);
+            }
+        });
+    }
+}
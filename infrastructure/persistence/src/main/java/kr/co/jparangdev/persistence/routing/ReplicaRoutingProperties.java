@@ -0,0 +1,54 @@
+package kr.co.jparangdev.persistence.routing;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Read replica settings bound from {@code persistence.replica.*}.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "persistence.replica")
+public class ReplicaRoutingProperties {
+
+    private boolean enabled;
+
+    private List<Replica> replicas = new ArrayList<>();
+
+    /**
+     * Replicas lagging further behind than this are taken out of rotation until they catch up.
+     */
+    private Duration maxLag = Duration.ofSeconds(5);
+
+    private Duration lagCheckInterval = Duration.ofSeconds(5);
+
+    /**
+     * Query returning the replica's lag in milliseconds as a single number.
+     * The default reports 0 on a caught-up PostgreSQL standby; use {@code SELECT 0}
+     * for databases without replication, e.g. embedded ones in local runs.
+     */
+    private String lagQuery = """
+            SELECT COALESCE(CASE WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+                ELSE EXTRACT(EPOCH FROM (now() - pg_last_xact_replay_timestamp())) * 1000 END, 0)
+            """;
+
+    /**
+     * How long a client's reads stay on the primary after it commits a write.
+     */
+    private Duration readYourWritesWindow = Duration.ofSeconds(5);
+
+    @Getter
+    @Setter
+    public static class Replica {
+        private String url;
+        private String username;
+        private String password;
+        private String driverClassName;
+        private int maximumPoolSize = 10;
+    }
+}
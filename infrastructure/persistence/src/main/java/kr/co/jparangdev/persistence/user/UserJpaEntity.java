@@ -4,11 +4,15 @@ import jakarta.persistence.*;
 import kr.co.jparangdev.persistence.common.BaseJpaEntity;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "users")
+@DynamicUpdate
+@Table(name = "users", indexes = {
+        @Index(name = "idx_users_status_last_login_at", columnList = "status, last_login_at")
+})
 @Getter
 @Setter
 public class UserJpaEntity extends BaseJpaEntity {
@@ -18,6 +22,7 @@ public class UserJpaEntity extends BaseJpaEntity {
     @Enumerated(EnumType.STRING)
     private Status status;
 
+    @Column(name = "last_login_at")
     private LocalDateTime lastLoginAt;
 
     public enum Status {
@@ -1,12 +1,68 @@
 package kr.co.jparangdev.persistence.user;
 
 import kr.co.jparangdev.persistence.common.BaseJpaEntityRepository;
+import kr.co.jparangdev.persistence.common.IdRangeProjection;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface UserJpaRepository extends BaseJpaEntityRepository<UserJpaEntity, Long> {
-    List<UserJpaEntity> findByLastLoginAtBeforeAndStatus(LocalDateTime dateTime, UserJpaEntity.Status status);
+    List<UserJpaEntity> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+
+    boolean existsByUsername(String username);
+
+    boolean existsByEmail(String email);
+
+    /**
+     * Locks a bounded batch of candidates with SKIP LOCKED so concurrent logins are
+     * never blocked, and updates them in the same statement.
+     */
+    @Modifying
+    @Query(value = """
+            UPDATE users SET status = :toStatus, updated_at = :now
+            WHERE id IN (
+                SELECT id FROM users
+                WHERE status = :fromStatus AND last_login_at < :lastLoginBefore
+                LIMIT :limit
+                FOR UPDATE SKIP LOCKED)
+            """, nativeQuery = true)
+    int transitionStatus(@Param("fromStatus") String fromStatus, @Param("toStatus") String toStatus,
+            @Param("lastLoginBefore") LocalDateTime lastLoginBefore, @Param("now") LocalDateTime now,
+            @Param("limit") int limit);
+
+    @Query("""
+            select min(u.id) as minId, max(u.id) as maxId from UserJpaEntity u
+            where u.status = :status and u.lastLoginAt < :lastLoginBefore
+            """)
+    IdRangeProjection findIdRange(@Param("status") UserJpaEntity.Status status,
+            @Param("lastLoginBefore") LocalDateTime lastLoginBefore);
+
+    @Query("""
+            select u from UserJpaEntity u
+            where u.status = :status and u.lastLoginAt < :lastLoginBefore
+              and u.id > :afterId and u.id <= :maxId
+            order by u.id
+            """)
+    List<UserJpaEntity> findCandidates(@Param("status") UserJpaEntity.Status status,
+            @Param("lastLoginBefore") LocalDateTime lastLoginBefore, @Param("afterId") long afterId,
+            @Param("maxId") long maxId, Limit limit);
+
+    @Modifying
+    @Query("""
+            update UserJpaEntity u set u.status = :toStatus, u.updatedAt = :now
+            where u.id in :ids and u.status = :fromStatus
+            """)
+    int updateStatus(@Param("ids") Collection<Long> ids, @Param("fromStatus") UserJpaEntity.Status fromStatus,
+            @Param("toStatus") UserJpaEntity.Status toStatus, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("delete from UserJpaEntity u where u.id = :id")
+    int deleteRowById(@Param("id") Long id);
 }
@@ -1,53 +1,140 @@
 package kr.co.jparangdev.persistence.user;
 
+import kr.co.jparangdev.application.common.pagination.IdRange;
 import kr.co.jparangdev.application.user.UserRepository;
 import kr.co.jparangdev.domain.user.User;
+import kr.co.jparangdev.persistence.common.CursorQueries;
+import kr.co.jparangdev.persistence.common.IdRangeProjection;
+import kr.co.jparangdev.persistence.common.id.SnowflakeIdGenerator;
 import lombok.RequiredArgsConstructor;
 
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
 import org.springframework.stereotype.Repository;
 
+import java.sql.ResultSet;
+import java.sql.SQLException;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
 
 @Repository
 @RequiredArgsConstructor
 public class UserRepositoryAdapter implements UserRepository {
 
+    private static final String STREAM_ALL_SQL =
+            "SELECT id, username, email, status, last_login_at, created_at, updated_at FROM users ORDER BY id";
+    private static final String STREAM_IDS_SQL = "SELECT id FROM users ORDER BY id";
+
     private final UserJpaRepository userJpaRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final SnowflakeIdGenerator idGenerator;
 
     @Override
     public User save(User user) {
-        UserJpaEntity userJpaEntity = toJpaEntity(user);
-        UserJpaEntity savedEntity = userJpaRepository.save(userJpaEntity);
+        if (user.getId() != null) {
+            Optional<UserJpaEntity> managedEntity = userJpaRepository.findById(user.getId());
+            if (managedEntity.isPresent()) {
+                applyChanges(user, managedEntity.get());
+                return toDomain(managedEntity.get());
+            }
+        }
+        UserJpaEntity savedEntity = userJpaRepository.save(toPersistableEntity(user));
         return toDomain(savedEntity);
     }
 
+    @Override
+    public List<User> saveAll(List<User> users) {
+        List<UserJpaEntity> entities = users.stream()
+                .map(this::toPersistableEntity)
+                .toList();
+        return userJpaRepository.saveAll(entities).stream()
+                .map(this::toDomain)
+                .toList();
+    }
+
     @Override
     public Optional<User> findById(Long id) {
         return userJpaRepository.findById(id).map(this::toDomain);
     }
 
     @Override
-    public List<User> findAll() {
-        return userJpaRepository.findAll().stream()
+    public boolean existsById(Long id) {
+        return userJpaRepository.existsById(id);
+    }
+
+    @Override
+    public boolean existsByUsername(String username) {
+        return userJpaRepository.existsByUsername(username);
+    }
+
+    @Override
+    public boolean existsByEmail(String email) {
+        return userJpaRepository.existsByEmail(email);
+    }
+
+    @Override
+    public List<User> findAllAfter(Long afterId, int limit) {
+        return userJpaRepository.findByIdGreaterThanOrderByIdAsc(afterId, Limit.of(limit)).stream()
                 .map(this::toDomain)
                 .toList();
     }
 
     @Override
-    public void deleteById(Long id) {
-        userJpaRepository.deleteById(id);
+    public int deleteById(Long id) {
+        return userJpaRepository.deleteRowById(id);
+    }
+
+    @Override
+    public void streamAll(Consumer<User> action) {
+        jdbcTemplate.query(CursorQueries.forwardOnly(STREAM_ALL_SQL, CursorQueries.DEFAULT_FETCH_SIZE),
+                (RowCallbackHandler) rs -> action.accept(mapRow(rs)));
+    }
+
+    @Override
+    public void streamIds(LongConsumer action) {
+        jdbcTemplate.query(CursorQueries.forwardOnly(STREAM_IDS_SQL, CursorQueries.DEFAULT_FETCH_SIZE),
+                (RowCallbackHandler) rs -> action.accept(rs.getLong(1)));
     }
 
     @Override
-    public List<User> findByLastLoginAtBeforeAndStatus(LocalDateTime dateTime, User.Status status) {
-        UserJpaEntity.Status jpaStatus = UserJpaEntity.Status.valueOf(status.name());
-        return userJpaRepository.findByLastLoginAtBeforeAndStatus(dateTime, jpaStatus).stream()
+    public int transitionStatus(User.Status from, User.Status to, LocalDateTime lastLoginBefore, int limit) {
+        return userJpaRepository.transitionStatus(
+                from.name(), to.name(), lastLoginBefore, LocalDateTime.now(), limit);
+    }
+
+    @Override
+    public Optional<IdRange> findIdRangeByStatusAndLastLoginAtBefore(User.Status status,
+            LocalDateTime lastLoginBefore) {
+        IdRangeProjection range = userJpaRepository.findIdRange(
+                UserJpaEntity.Status.valueOf(status.name()), lastLoginBefore);
+        if (range == null || range.getMinId() == null) {
+            return Optional.empty();
+        }
+        return Optional.of(new IdRange(range.getMinId(), range.getMaxId()));
+    }
+
+    @Override
+    public List<User> findByStatusAndLastLoginAtBefore(User.Status status, LocalDateTime lastLoginBefore,
+            long afterId, long maxId, int limit) {
+        return userJpaRepository.findCandidates(UserJpaEntity.Status.valueOf(status.name()), lastLoginBefore,
+                        afterId, maxId, Limit.of(limit)).stream()
                 .map(this::toDomain)
                 .toList();
     }
 
+    @Override
+    public int updateStatus(List<Long> ids, User.Status from, User.Status to) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        return userJpaRepository.updateStatus(ids, UserJpaEntity.Status.valueOf(from.name()),
+                UserJpaEntity.Status.valueOf(to.name()), LocalDateTime.now());
+    }
+
     private UserJpaEntity toJpaEntity(User user) {
         UserJpaEntity userJpaEntity = new UserJpaEntity();
         userJpaEntity.setId(user.getId());
@@ -60,6 +147,33 @@ public class UserRepositoryAdapter implements UserRepository {
         return userJpaEntity;
     }
 
+    private void applyChanges(User user, UserJpaEntity userJpaEntity) {
+        userJpaEntity.setUsername(user.getUsername());
+        userJpaEntity.setEmail(user.getEmail());
+        userJpaEntity.setStatus(UserJpaEntity.Status.valueOf(user.getStatus().name()));
+        userJpaEntity.setLastLoginAt(user.getLastLoginAt());
+        userJpaEntity.setUpdatedAt(user.getUpdatedAt());
+    }
+
+    private User mapRow(ResultSet rs) throws SQLException {
+        return new User(
+                rs.getLong("id"),
+                rs.getString("username"),
+                rs.getString("email"),
+                User.Status.valueOf(rs.getString("status")),
+                rs.getObject("last_login_at", LocalDateTime.class),
+                rs.getObject("created_at", LocalDateTime.class),
+                rs.getObject("updated_at", LocalDateTime.class));
+    }
+
+    private UserJpaEntity toPersistableEntity(User user) {
+        UserJpaEntity userJpaEntity = toJpaEntity(user);
+        if (userJpaEntity.getId() == null) {
+            userJpaEntity.assignId(idGenerator.nextId());
+        }
+        return userJpaEntity;
+    }
+
     private User toDomain(UserJpaEntity userJpaEntity) {
         return new User(
                 userJpaEntity.getId(),
@@ -0,0 +1,32 @@
+-- Baseline of the schema previously created by hibernate.ddl-auto=update.
+-- IF NOT EXISTS keeps it safe to apply on databases that already have these tables.
+
+CREATE TABLE IF NOT EXISTS users (
+    id            BIGINT       NOT NULL PRIMARY KEY,
+    username      VARCHAR(255),
+    email         VARCHAR(255),
+    status        VARCHAR(255),
+    last_login_at TIMESTAMP(6),
+    created_at    TIMESTAMP(6),
+    updated_at    TIMESTAMP(6)
+);
+
+CREATE INDEX IF NOT EXISTS idx_users_status_last_login_at ON users (status, last_login_at);
+
+CREATE TABLE IF NOT EXISTS posts (
+    id         BIGINT       NOT NULL PRIMARY KEY,
+    title      VARCHAR(255),
+    content    VARCHAR(255),
+    author_id  BIGINT,
+    created_at TIMESTAMP(6),
+    updated_at TIMESTAMP(6)
+);
+
+CREATE TABLE IF NOT EXISTS comments (
+    id         BIGINT       NOT NULL PRIMARY KEY,
+    content    VARCHAR(255),
+    post_id    BIGINT,
+    author_id  BIGINT,
+    created_at TIMESTAMP(6),
+    updated_at TIMESTAMP(6)
+);
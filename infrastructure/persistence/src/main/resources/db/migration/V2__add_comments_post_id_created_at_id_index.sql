@@ -0,0 +1,2 @@
+-- Backs the newest-first keyset feed of comments per post.
+CREATE INDEX IF NOT EXISTS idx_comments_post_id_created_at_id ON comments (post_id, created_at, id);
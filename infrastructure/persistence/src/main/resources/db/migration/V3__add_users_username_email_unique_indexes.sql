@@ -0,0 +1,5 @@
+-- Final guard for username/email uniqueness; the application's Bloom filter pre-check
+-- only decides whether these indexes need to be queried before an insert.
+-- Fails if duplicates already exist; resolve them before migrating.
+CREATE UNIQUE INDEX IF NOT EXISTS uk_users_username ON users (username);
+CREATE UNIQUE INDEX IF NOT EXISTS uk_users_email ON users (email);
@@ -0,0 +1,145 @@
+package kr.co.jparangdev.persistence.routing;
+
+import kr.co.jparangdev.application.common.config.TransactionConfig;
+import kr.co.jparangdev.application.common.context.ClientContextHolder;
+import kr.co.jparangdev.persistence.config.ReplicaRoutingConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Routes through the real routing data source over two embedded H2 databases, each of
+ * which answers {@code SELECT name FROM node} with its own name.
+ */
+class ReplicaRoutingDataSourceTest {
+
+    private static final String LAG_QUERY = "SELECT lag_millis FROM replica_lag";
+
+    private EmbeddedDatabase primary;
+    private EmbeddedDatabase replica;
+    private ReplicaPool replicaPool;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate transactionTemplate;
+    private TransactionTemplate readOnlyTransactionTemplate;
+    private TransactionTemplate primaryReadTransactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        primary = database("primary");
+        replica = database("replica");
+
+        replicaPool = new ReplicaPool(Map.of("replica-0", replica), LAG_QUERY,
+                Duration.ofSeconds(5), Duration.ofSeconds(5));
+        replicaPool.checkLag();
+        ReadYourWritesTracker readYourWritesTracker = new ReadYourWritesTracker(Duration.ofMinutes(1));
+        DataSource dataSource = new ReplicaRoutingConfig().dataSource(primary, replicaPool, readYourWritesTracker);
+
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+        readOnlyTransactionTemplate.setReadOnly(true);
+        primaryReadTransactionTemplate = new TransactionConfig().primaryReadTransactionTemplate(transactionManager);
+    }
+
+    @AfterEach
+    void tearDown() {
+        ClientContextHolder.clear();
+        replicaPool.destroy();
+        primary.shutdown();
+        replica.shutdown();
+    }
+
+    @Test
+    void readOnlyTransactionsGoToTheReplica() {
+        assertThat(servedBy(readOnlyTransactionTemplate)).isEqualTo("replica");
+    }
+
+    @Test
+    void primaryReadTransactionsStayOnThePrimary() {
+        assertThat(servedBy(primaryReadTransactionTemplate)).isEqualTo("primary");
+    }
+
+    @Test
+    void writesGoToThePrimary() {
+        assertThat(servedBy(transactionTemplate)).isEqualTo("primary");
+
+        transactionTemplate.executeWithoutResult(status ->
+                jdbcTemplate.update("INSERT INTO note (body) VALUES ('written')"));
+
+        assertThat(countNotes(primary)).isEqualTo(1);
+        assertThat(countNotes(replica)).isZero();
+    }
+
+    @Test
+    void clientThatJustWroteKeepsReadingFromThePrimary() {
+        ClientContextHolder.setClientId("writer");
+        transactionTemplate.executeWithoutResult(status ->
+                jdbcTemplate.update("INSERT INTO note (body) VALUES ('written')"));
+
+        assertThat(servedBy(readOnlyTransactionTemplate)).isEqualTo("primary");
+
+        ClientContextHolder.setClientId("other");
+        assertThat(servedBy(readOnlyTransactionTemplate)).isEqualTo("replica");
+    }
+
+    @Test
+    void rolledBackWriteDoesNotPinTheClient() {
+        ClientContextHolder.setClientId("writer");
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.update("INSERT INTO note (body) VALUES ('written')");
+            status.setRollbackOnly();
+        });
+
+        assertThat(servedBy(readOnlyTransactionTemplate)).isEqualTo("replica");
+    }
+
+    @Test
+    void laggingReplicaLeavesRotationUntilItCatchesUp() {
+        setLag(60_000);
+        replicaPool.checkLag();
+        assertThat(servedBy(readOnlyTransactionTemplate)).isEqualTo("primary");
+
+        setLag(0);
+        replicaPool.checkLag();
+        assertThat(servedBy(readOnlyTransactionTemplate)).isEqualTo("replica");
+    }
+
+    private String servedBy(TransactionTemplate template) {
+        return template.execute(status -> jdbcTemplate.queryForObject("SELECT name FROM node", String.class));
+    }
+
+    private void setLag(long lagMillis) {
+        new JdbcTemplate(replica).update("UPDATE replica_lag SET lag_millis = ?", lagMillis);
+    }
+
+    private static int countNotes(DataSource dataSource) {
+        return new JdbcTemplate(dataSource).queryForObject("SELECT COUNT(*) FROM note", Integer.class);
+    }
+
+    private static EmbeddedDatabase database(String name) {
+        EmbeddedDatabase database = new EmbeddedDatabaseBuilder()
+                .generateUniqueName(true)
+                .setType(EmbeddedDatabaseType.H2)
+                .build();
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(database);
+        jdbcTemplate.execute("CREATE TABLE node (name VARCHAR(16))");
+        jdbcTemplate.update("INSERT INTO node (name) VALUES (?)", name);
+        jdbcTemplate.execute("CREATE TABLE note (body VARCHAR(16))");
+        jdbcTemplate.execute("CREATE TABLE replica_lag (lag_millis DOUBLE PRECISION)");
+        jdbcTemplate.update("INSERT INTO replica_lag (lag_millis) VALUES (0)");
+        return database;
+    }
+}
@@ -0,0 +1,25 @@
+package kr.co.jparangdev.transients.cache;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+
+import java.util.List;
+
+/**
+ * Actuator endpoint listing the most accessed cache keys, e.g. {@code GET /actuator/cachehotkeys?limit=20}.
+ */
+@Endpoint(id = "cachehotkeys")
+@RequiredArgsConstructor
+public class CacheHotKeysEndpoint {
+
+    private static final int DEFAULT_LIMIT = 20;
+
+    private final HotKeySampler hotKeySampler;
+
+    @ReadOperation
+    public List<HotKey> hotKeys(@Nullable Integer limit) {
+        return hotKeySampler.top(limit != null ? limit : DEFAULT_LIMIT);
+    }
+}
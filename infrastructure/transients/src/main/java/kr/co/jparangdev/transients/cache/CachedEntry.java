@@ -0,0 +1,22 @@
+package kr.co.jparangdev.transients.cache;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.Duration;
+
+/**
+ * A value read from Redis together with its remaining time to live and serialized size.
+ */
+@Getter
+@RequiredArgsConstructor
+public class CachedEntry<T> {
+    private final T value;
+
+    /**
+     * Remaining time to live, or {@code null} if the key does not expire.
+     */
+    private final Duration ttl;
+
+    private final int serializedSize;
+}
@@ -0,0 +1,14 @@
+package kr.co.jparangdev.transients.cache;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * A frequently accessed cache key with its estimated access count in the current window.
+ */
+@Getter
+@RequiredArgsConstructor
+public class HotKey {
+    private final String key;
+    private final long estimatedAccesses;
+}
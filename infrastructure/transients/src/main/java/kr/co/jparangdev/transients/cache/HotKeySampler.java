@@ -0,0 +1,76 @@
+package kr.co.jparangdev.transients.cache;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Tracks the most accessed cache keys in bounded memory.
+ * <p>
+ * One access in {@code sampleRate} is recorded into a Space-Saving summary of at most
+ * {@code capacity} counters: when a new key arrives and the summary is full, it takes over
+ * the smallest counter. Counts are halved every decay interval so the ranking follows
+ * current traffic rather than all-time totals.
+ */
+public class HotKeySampler {
+
+    private final int capacity;
+    private final int sampleRate;
+    private final long decayIntervalNanos;
+
+    /** Guarded by {@code this}. */
+    private final Map<String, Long> counts = new HashMap<>();
+    private long nextDecayAt;
+
+    public HotKeySampler(int capacity, int sampleRate, Duration decayInterval) {
+        this.capacity = capacity;
+        this.sampleRate = sampleRate;
+        this.decayIntervalNanos = decayInterval.toNanos();
+        this.nextDecayAt = System.nanoTime() + decayIntervalNanos;
+    }
+
+    public void record(String key) {
+        if (ThreadLocalRandom.current().nextInt(sampleRate) != 0) {
+            return;
+        }
+
+        synchronized (this) {
+            decayIfDue(System.nanoTime());
+            Long count = counts.get(key);
+            if (count != null) {
+                counts.put(key, count + 1);
+            } else if (counts.size() < capacity) {
+                counts.put(key, 1L);
+            } else {
+                Map.Entry<String, Long> smallest = counts.entrySet().stream()
+                        .min(Map.Entry.comparingByValue())
+                        .orElseThrow();
+                counts.remove(smallest.getKey());
+                counts.put(key, smallest.getValue() + 1);
+            }
+        }
+    }
+
+    /**
+     * Returns up to {@code limit} keys, most accessed first, with counts scaled back up by the sample rate.
+     */
+    public synchronized List<HotKey> top(int limit) {
+        return counts.entrySet().stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue(Comparator.reverseOrder()))
+                .limit(limit)
+                .map(entry -> new HotKey(entry.getKey(), entry.getValue() * sampleRate))
+                .toList();
+    }
+
+    private void decayIfDue(long now) {
+        if (now - nextDecayAt < 0) {
+            return;
+        }
+        counts.replaceAll((key, count) -> count / 2);
+        counts.values().removeIf(count -> count == 0);
+        nextDecayAt = now + decayIntervalNanos;
+    }
+}
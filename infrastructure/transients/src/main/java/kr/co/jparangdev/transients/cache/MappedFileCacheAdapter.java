@@ -0,0 +1,196 @@
+package kr.co.jparangdev.transients.cache;
+
+import kr.co.jparangdev.application.common.port.CachePort;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+/**
+ * Single-node CachePort that keeps serialized values off-heap in memory-mapped segment files.
+ * <p>
+ * Keys are spread over segments by hash; each segment is one file with its own lock, hash
+ * index and CLOCK-reclaimed record log (see {@link MappedSegment}), so the byte budget is
+ * split evenly between them. Only lookups allocate on the heap, for the copied value bytes.
+ * Files closed cleanly are reused on the next start, giving a warm cache after a restart.
+ * <p>
+ * Pattern and tag evictions scan every segment's index, which is fine for the occasional
+ * bulk invalidation but not for hot paths.
+ */
+@Slf4j
+public class MappedFileCacheAdapter implements CachePort {
+
+    private static final Duration DEFAULT_TTL = Duration.ofMinutes(30);
+    private static final byte TAG_SEPARATOR = '\n';
+
+    private final MappedSegment[] segments;
+    private final RedisSerializer<Object> serializer;
+
+    public MappedFileCacheAdapter(Path directory, long maxSizeBytes, int segmentCount,
+            RedisSerializer<Object> serializer) {
+        long segmentSize = maxSizeBytes / segmentCount;
+        if (segmentSize > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Segments are limited to 2GB; raise the segment count");
+        }
+        this.serializer = serializer;
+        this.segments = new MappedSegment[segmentCount];
+        try {
+            Files.createDirectories(directory);
+            for (int i = 0; i < segmentCount; i++) {
+                segments[i] = new MappedSegment(directory.resolve("segment-" + i + ".cache"), (int) segmentSize);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not open cache segments in " + directory, e);
+        }
+    }
+
+    @Override
+    public <T> Optional<T> get(String key, Class<T> type) {
+        byte[] keyBytes = encode(key);
+        long hash = hash(keyBytes);
+        byte[] value = segmentFor(hash).get(hash, keyBytes, System.currentTimeMillis());
+        if (value == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(serializer.deserialize(value)).map(type::cast);
+    }
+
+    @Override
+    public <T> Map<String, T> getAll(Collection<String> keys, Class<T> type) {
+        Map<String, T> found = new HashMap<>();
+        for (String key : keys) {
+            get(key, type).ifPresent(value -> found.put(key, value));
+        }
+        return found;
+    }
+
+    @Override
+    public void put(String key, Object value) {
+        put(key, value, DEFAULT_TTL);
+    }
+
+    @Override
+    public void put(String key, Object value, Duration ttl) {
+        put(key, value, ttl, List.of());
+    }
+
+    @Override
+    public void put(String key, Object value, Duration ttl, Collection<String> tags) {
+        byte[] keyBytes = encode(key);
+        long hash = hash(keyBytes);
+        byte[] valueBytes = serializer.serialize(value);
+        boolean stored = segmentFor(hash).put(hash, keyBytes, encodeTags(tags), valueBytes,
+                System.currentTimeMillis() + ttl.toMillis());
+        if (!stored) {
+            log.debug("Not caching {}: {} bytes exceeds the segment record limit", key, valueBytes.length);
+        }
+    }
+
+    @Override
+    public void putAll(Map<String, ?> entries, Duration ttl) {
+        entries.forEach((key, value) -> put(key, value, ttl));
+    }
+
+    @Override
+    public void evict(String key) {
+        byte[] keyBytes = encode(key);
+        long hash = hash(keyBytes);
+        segmentFor(hash).remove(hash, keyBytes);
+    }
+
+    @Override
+    public void evictAll(Collection<String> keys) {
+        keys.forEach(this::evict);
+    }
+
+    @Override
+    public void evictByTag(String tag) {
+        for (MappedSegment segment : segments) {
+            segment.removeIf((key, tags) -> tags.contains(tag));
+        }
+    }
+
+    @Override
+    public void evictByPattern(String pattern) {
+        Pattern regex = NearCacheAdapter.globToRegex(pattern);
+        for (MappedSegment segment : segments) {
+            segment.removeIf((key, tags) -> regex.matcher(key).matches());
+        }
+    }
+
+    @Override
+    public boolean exists(String key) {
+        byte[] keyBytes = encode(key);
+        long hash = hash(keyBytes);
+        return segmentFor(hash).ttlMillis(hash, keyBytes, System.currentTimeMillis()) >= 0;
+    }
+
+    /**
+     * Flushes and marks every segment as cleanly closed so the next start reuses it.
+     */
+    public void close() {
+        for (MappedSegment segment : segments) {
+            try {
+                segment.close();
+            } catch (IOException e) {
+                log.warn("Could not close cache segment cleanly, it will be reset on next start: {}", e.getMessage());
+            }
+        }
+    }
+
+    private MappedSegment segmentFor(long hash) {
+        return segments[(int) Long.remainderUnsigned(hash >>> 32, segments.length)];
+    }
+
+    /**
+     * FNV-1a over the key bytes with a MurmurHash3 finalizer; never zero, which marks an empty index slot.
+     */
+    static long hash(byte[] key) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : key) {
+            hash ^= b & 0xFF;
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash != 0 ? hash : 1;
+    }
+
+    static String decode(byte[] bytes) {
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    static List<String> decodeTags(byte[] bytes) {
+        if (bytes.length == 0) {
+            return List.of();
+        }
+        return Arrays.asList(decode(bytes).split(String.valueOf((char) TAG_SEPARATOR)));
+    }
+
+    private static byte[] encode(String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > 0xFFFF) {
+            throw new IllegalArgumentException("Cache key or tag list longer than 65535 bytes");
+        }
+        return bytes;
+    }
+
+    private static byte[] encodeTags(Collection<String> tags) {
+        return tags.isEmpty() ? new byte[0] : encode(String.join(String.valueOf((char) TAG_SEPARATOR), tags));
+    }
+}
@@ -0,0 +1,503 @@
+package kr.co.jparangdev.transients.cache;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiPredicate;
+
+/**
+ * One memory-mapped file of {@link MappedFileCacheAdapter}, guarded by its own lock.
+ * <p>
+ * Layout: a fixed header, an open-addressing hash index (linear probing, 12-byte slots of
+ * key hash and record offset) and a circular record log. Records are appended at the head
+ * and reclaimed from the tail. Reclaiming works like a CLOCK hand: a live record read
+ * since it was written gets a second chance and is moved to the head with its access bit
+ * cleared. Any other record is dropped.
+ * <p>
+ * The header carries a clean-shutdown flag. A file that was not closed cleanly, or whose
+ * geometry does not match, is reformatted on open rather than trusted.
+ */
+class MappedSegment {
+
+    private static final int MAGIC = 0x43414348; // "CACH"
+    private static final int FORMAT_VERSION = 1;
+
+    private static final int HEADER_SIZE = 64;
+    private static final int H_MAGIC = 0;
+    private static final int H_VERSION = 4;
+    private static final int H_DATA_CAPACITY = 8;
+    private static final int H_INDEX_SLOTS = 12;
+    private static final int H_HEAD = 16;
+    private static final int H_TAIL = 20;
+    private static final int H_RECORDS = 24;
+    private static final int H_CLEAN = 28;
+    private static final int H_LIVE = 32;
+
+    private static final int SLOT_SIZE = 12;
+    private static final long EMPTY_SLOT = 0L;
+
+    /** Record: length, flags, expiresAt, key length, tags length, value length, then the three byte runs. */
+    private static final int RECORD_HEADER_SIZE = 4 + 1 + 8 + 2 + 2 + 4;
+    private static final int R_FLAGS = 4;
+    private static final int R_EXPIRES_AT = 5;
+    private static final int R_KEY_LENGTH = 13;
+    private static final int R_TAGS_LENGTH = 15;
+    private static final int R_VALUE_LENGTH = 17;
+    private static final byte FLAG_LIVE = 0x01;
+    private static final byte FLAG_ACCESSED = 0x02;
+    /** Written at the head when the next record does not fit before the end of the log. */
+    private static final int WRAP_MARKER = -1;
+
+    /** Average bytes of log per index slot; the index is kept at most 3/4 full. */
+    private static final int BYTES_PER_SLOT = 256;
+    /** Second chances granted while making room for one write, so a fully hot log still makes progress. */
+    private static final int MAX_SECOND_CHANCES = 8;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private final int dataStart;
+    private final int dataCapacity;
+    private final int indexSlots;
+    private final int indexMask;
+
+    private int head;
+    private int tail;
+    private int records;
+    private int live;
+
+    MappedSegment(Path file, int fileSize) throws IOException {
+        int slots = Integer.highestOneBit(Math.max(1024, fileSize / BYTES_PER_SLOT));
+        this.indexSlots = slots;
+        this.indexMask = slots - 1;
+        this.dataStart = HEADER_SIZE + slots * SLOT_SIZE;
+        this.dataCapacity = fileSize - dataStart;
+        if (dataCapacity <= 0) {
+            throw new IllegalArgumentException("Segment of " + fileSize + " bytes is too small");
+        }
+
+        this.channel = FileChannel.open(file,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        this.buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, fileSize);
+
+        if (isReusable()) {
+            head = buffer.getInt(H_HEAD);
+            tail = buffer.getInt(H_TAIL);
+            records = buffer.getInt(H_RECORDS);
+            live = buffer.getInt(H_LIVE);
+        } else {
+            format();
+        }
+        // Until close() completes, a crash leaves the file marked as not reusable
+        buffer.putInt(H_CLEAN, 0);
+        buffer.force();
+    }
+
+    /**
+     * Largest value, with key and tags, a single record may hold.
+     */
+    int maxRecordSize() {
+        return dataCapacity / 4;
+    }
+
+    /**
+     * Returns a copy of the value bytes, or null if absent or expired. Marks the record as accessed.
+     */
+    byte[] get(long hash, byte[] key, long now) {
+        lock.lock();
+        try {
+            int slot = find(hash, key);
+            if (slot < 0) {
+                return null;
+            }
+            int record = recordAt(slot);
+            if (isExpired(record, now)) {
+                delete(slot, record);
+                return null;
+            }
+            buffer.put(record + R_FLAGS, (byte) (buffer.get(record + R_FLAGS) | FLAG_ACCESSED));
+            return readValue(record);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Remaining time to live in milliseconds, or -1 if absent or expired.
+     */
+    long ttlMillis(long hash, byte[] key, long now) {
+        lock.lock();
+        try {
+            int slot = find(hash, key);
+            if (slot < 0) {
+                return -1;
+            }
+            long remaining = buffer.getLong(recordAt(slot) + R_EXPIRES_AT) - now;
+            return remaining > 0 ? remaining : -1;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Stores a record, replacing any previous one for the key. Returns false when it is too large to cache.
+     */
+    boolean put(long hash, byte[] key, byte[] tags, byte[] value, long expiresAt) {
+        int size = RECORD_HEADER_SIZE + key.length + tags.length + value.length;
+        lock.lock();
+        try {
+            int existing = find(hash, key);
+            if (existing >= 0) {
+                delete(existing, recordAt(existing));
+            }
+            if (size > maxRecordSize()) {
+                return false;
+            }
+
+            int chances = MAX_SECOND_CHANCES;
+            while (live >= indexSlots - indexSlots / 4) {
+                chances = reclaimTail(chances);
+            }
+            int position = reserve(size, chances);
+            writeRecord(position, size, key, tags, value, expiresAt);
+            insertSlot(hash, position);
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    boolean remove(long hash, byte[] key) {
+        lock.lock();
+        try {
+            int slot = find(hash, key);
+            if (slot < 0) {
+                return false;
+            }
+            delete(slot, recordAt(slot));
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes every live record whose key and tag bytes match; returns how many were removed.
+     */
+    int removeIf(BiPredicate<String, List<String>> matcher) {
+        lock.lock();
+        try {
+            List<Integer> matches = new ArrayList<>();
+            for (int slot = 0; slot < indexSlots; slot++) {
+                if (slotHash(slot) != EMPTY_SLOT) {
+                    int record = recordAt(slot);
+                    if (matcher.test(readKey(record), readTags(record))) {
+                        matches.add(record);
+                    }
+                }
+            }
+            // Deleting shifts later slots back, so resolve each match by record offset afterwards
+            for (int record : matches) {
+                int slot = slotOf(record);
+                if (slot >= 0) {
+                    delete(slot, record);
+                }
+            }
+            return matches.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void close() throws IOException {
+        lock.lock();
+        try {
+            buffer.force();
+            buffer.putInt(H_CLEAN, 1);
+            buffer.force();
+            channel.close();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private boolean isReusable() {
+        return buffer.getInt(H_MAGIC) == MAGIC
+                && buffer.getInt(H_VERSION) == FORMAT_VERSION
+                && buffer.getInt(H_DATA_CAPACITY) == dataCapacity
+                && buffer.getInt(H_INDEX_SLOTS) == indexSlots
+                && buffer.getInt(H_CLEAN) == 1;
+    }
+
+    private void format() {
+        for (int slot = 0; slot < indexSlots; slot++) {
+            buffer.putLong(slotPosition(slot), EMPTY_SLOT);
+        }
+        head = 0;
+        tail = 0;
+        records = 0;
+        live = 0;
+        buffer.putInt(H_MAGIC, MAGIC);
+        buffer.putInt(H_VERSION, FORMAT_VERSION);
+        buffer.putInt(H_DATA_CAPACITY, dataCapacity);
+        buffer.putInt(H_INDEX_SLOTS, indexSlots);
+        syncHeader();
+    }
+
+    private void syncHeader() {
+        buffer.putInt(H_HEAD, head);
+        buffer.putInt(H_TAIL, tail);
+        buffer.putInt(H_RECORDS, records);
+        buffer.putInt(H_LIVE, live);
+    }
+
+    // --- record log ---
+
+    /**
+     * Finds room for {@code size} bytes at the head, reclaiming from the tail as needed.
+     */
+    private int reserve(int size, int chances) {
+        while (true) {
+            int position = tryReserve(size);
+            if (position >= 0) {
+                return position;
+            }
+            chances = reclaimTail(chances);
+        }
+    }
+
+    private int tryReserve(int size) {
+        if (records == 0) {
+            head = 0;
+            tail = 0;
+        }
+        if (records == 0 || head > tail) {
+            // Free space is [head, end) and [0, tail)
+            if (dataCapacity - head >= size) {
+                return head;
+            }
+            if (size <= tail) {
+                if (dataCapacity - head >= 4) {
+                    buffer.putInt(dataStart + head, WRAP_MARKER);
+                }
+                head = 0;
+                return 0;
+            }
+            return -1;
+        }
+        if (head < tail && tail - head >= size) {
+            return head;
+        }
+        return -1;
+    }
+
+    /**
+     * Advances the tail past one record: drops it, or moves it to the head if it earned a second chance.
+     * Returns the remaining second chances.
+     */
+    private int reclaimTail(int chances) {
+        if (dataCapacity - tail < 4 || buffer.getInt(dataStart + tail) == WRAP_MARKER) {
+            tail = 0;
+            return chances;
+        }
+
+        int record = dataStart + tail;
+        int length = buffer.getInt(record);
+        byte flags = buffer.get(record + R_FLAGS);
+        boolean isLive = (flags & FLAG_LIVE) != 0;
+        int slot = isLive ? slotOf(record) : -1;
+
+        if (isLive && (flags & FLAG_ACCESSED) != 0 && chances > 0
+                && !isExpired(record, System.currentTimeMillis())) {
+            byte[] copy = new byte[length];
+            buffer.get(record, copy);
+            copy[R_FLAGS] = FLAG_LIVE;
+            removeSlot(slot);
+            live--;
+            advanceTail(length);
+
+            long hash = hashOf(copy);
+            int position = reserve(length, 0);
+            buffer.put(dataStart + position, copy);
+            advanceHead(position, length);
+            insertSlot(hash, position);
+            syncHeader();
+            return chances - 1;
+        }
+
+        if (slot >= 0) {
+            removeSlot(slot);
+            live--;
+        }
+        advanceTail(length);
+        syncHeader();
+        return chances;
+    }
+
+    private void advanceTail(int length) {
+        tail += length;
+        records--;
+        if (tail == dataCapacity) {
+            tail = 0;
+        }
+    }
+
+    private void writeRecord(int position, int size, byte[] key, byte[] tags, byte[] value, long expiresAt) {
+        int record = dataStart + position;
+        buffer.putInt(record, size);
+        buffer.put(record + R_FLAGS, FLAG_LIVE);
+        buffer.putLong(record + R_EXPIRES_AT, expiresAt);
+        buffer.putShort(record + R_KEY_LENGTH, (short) key.length);
+        buffer.putShort(record + R_TAGS_LENGTH, (short) tags.length);
+        buffer.putInt(record + R_VALUE_LENGTH, value.length);
+        int offset = record + RECORD_HEADER_SIZE;
+        buffer.put(offset, key);
+        buffer.put(offset + key.length, tags);
+        buffer.put(offset + key.length + tags.length, value);
+        advanceHead(position, size);
+    }
+
+    private void advanceHead(int position, int length) {
+        head = position + length;
+        if (head == dataCapacity) {
+            head = 0;
+        }
+        records++;
+    }
+
+    private void delete(int slot, int record) {
+        buffer.put(record + R_FLAGS, (byte) 0);
+        removeSlot(slot);
+        live--;
+        syncHeader();
+    }
+
+    private boolean isExpired(int record, long now) {
+        return buffer.getLong(record + R_EXPIRES_AT) <= now;
+    }
+
+    private byte[] readValue(int record) {
+        int keyLength = Short.toUnsignedInt(buffer.getShort(record + R_KEY_LENGTH));
+        int tagsLength = Short.toUnsignedInt(buffer.getShort(record + R_TAGS_LENGTH));
+        byte[] value = new byte[buffer.getInt(record + R_VALUE_LENGTH)];
+        buffer.get(record + RECORD_HEADER_SIZE + keyLength + tagsLength, value);
+        return value;
+    }
+
+    private String readKey(int record) {
+        return MappedFileCacheAdapter.decode(readKeyBytes(record));
+    }
+
+    private byte[] readKeyBytes(int record) {
+        byte[] key = new byte[Short.toUnsignedInt(buffer.getShort(record + R_KEY_LENGTH))];
+        buffer.get(record + RECORD_HEADER_SIZE, key);
+        return key;
+    }
+
+    private List<String> readTags(int record) {
+        int keyLength = Short.toUnsignedInt(buffer.getShort(record + R_KEY_LENGTH));
+        byte[] tags = new byte[Short.toUnsignedInt(buffer.getShort(record + R_TAGS_LENGTH))];
+        buffer.get(record + RECORD_HEADER_SIZE + keyLength, tags);
+        return MappedFileCacheAdapter.decodeTags(tags);
+    }
+
+    private long hashOf(byte[] recordBytes) {
+        int keyLength = Short.toUnsignedInt(ByteBuffer.wrap(recordBytes).getShort(R_KEY_LENGTH));
+        return MappedFileCacheAdapter.hash(
+                Arrays.copyOfRange(recordBytes, RECORD_HEADER_SIZE, RECORD_HEADER_SIZE + keyLength));
+    }
+
+    private boolean keyEquals(int record, byte[] key) {
+        if (Short.toUnsignedInt(buffer.getShort(record + R_KEY_LENGTH)) != key.length) {
+            return false;
+        }
+        int offset = record + RECORD_HEADER_SIZE;
+        for (int i = 0; i < key.length; i++) {
+            if (buffer.get(offset + i) != key[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // --- hash index ---
+
+    private int find(long hash, byte[] key) {
+        for (int slot = (int) hash & indexMask; ; slot = (slot + 1) & indexMask) {
+            long slotHash = slotHash(slot);
+            if (slotHash == EMPTY_SLOT) {
+                return -1;
+            }
+            if (slotHash == hash && keyEquals(recordAt(slot), key)) {
+                return slot;
+            }
+        }
+    }
+
+    private int slotOf(int record) {
+        long hash = MappedFileCacheAdapter.hash(readKeyBytes(record));
+        for (int slot = (int) hash & indexMask; ; slot = (slot + 1) & indexMask) {
+            long slotHash = slotHash(slot);
+            if (slotHash == EMPTY_SLOT) {
+                return -1;
+            }
+            if (slotHash == hash && recordAt(slot) == record) {
+                return slot;
+            }
+        }
+    }
+
+    private void insertSlot(long hash, int position) {
+        int slot = (int) hash & indexMask;
+        while (slotHash(slot) != EMPTY_SLOT) {
+            slot = (slot + 1) & indexMask;
+        }
+        buffer.putLong(slotPosition(slot), hash);
+        buffer.putInt(slotPosition(slot) + 8, position);
+        live++;
+        syncHeader();
+    }
+
+    /**
+     * Backward-shift deletion: pulls later entries of the probe run into the hole so lookups need no tombstones.
+     */
+    private void removeSlot(int hole) {
+        int slot = hole;
+        while (true) {
+            slot = (slot + 1) & indexMask;
+            long hash = slotHash(slot);
+            if (hash == EMPTY_SLOT) {
+                break;
+            }
+            int ideal = (int) hash & indexMask;
+            boolean staysPut = hole <= slot
+                    ? hole < ideal && ideal <= slot
+                    : hole < ideal || ideal <= slot;
+            if (!staysPut) {
+                buffer.putLong(slotPosition(hole), hash);
+                buffer.putInt(slotPosition(hole) + 8, buffer.getInt(slotPosition(slot) + 8));
+                hole = slot;
+            }
+        }
+        buffer.putLong(slotPosition(hole), EMPTY_SLOT);
+    }
+
+    private long slotHash(int slot) {
+        return buffer.getLong(slotPosition(slot));
+    }
+
+    private int recordAt(int slot) {
+        return dataStart + buffer.getInt(slotPosition(slot) + 8);
+    }
+
+    private int slotPosition(int slot) {
+        return HEADER_SIZE + slot * SLOT_SIZE;
+    }
+}
@@ -0,0 +1,209 @@
+package kr.co.jparangdev.transients.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import kr.co.jparangdev.application.common.port.CachePort;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+
+/**
+ * CachePort decorator that records Micrometer metrics, tagged by key prefix
+ * (everything up to and including the first {@code :}):
+ * <ul>
+ *   <li>{@code cache.gets}: lookups per key, tagged {@code result=hit|miss}</li>
+ *   <li>{@code cache.latency}: time per call, tagged by {@code operation}</li>
+ *   <li>{@code cache.payload.size}: serialized size of a sample of written values</li>
+ *   <li>{@code cache.evictions}: keys, tags or patterns requested to be evicted</li>
+ * </ul>
+ * Bulk calls spanning several prefixes are tagged {@code mixed}. Distinct prefixes are capped
+ * so a stray key format cannot explode tag cardinality; prefixes past the cap are tagged {@code other}.
+ * Every read key is also fed to the {@link HotKeySampler}.
+ */
+public class MeteredCachePort implements CachePort {
+
+    private static final String OTHER_PREFIX = "other";
+    private static final String MIXED_PREFIX = "mixed";
+    private static final int MAX_PREFIXES = 32;
+    /** Serializing a value again just to measure it is not free, so only one write in this many is measured. */
+    private static final int PAYLOAD_SAMPLE_RATE = 16;
+
+    private final CachePort delegate;
+    private final MeterRegistry registry;
+    private final HotKeySampler hotKeySampler;
+    private final ToIntFunction<Object> payloadSize;
+
+    private final Set<String> prefixes = ConcurrentHashMap.newKeySet();
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+    private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+    private final Map<String, DistributionSummary> payloadSizes = new ConcurrentHashMap<>();
+
+    public MeteredCachePort(CachePort delegate, MeterRegistry registry, HotKeySampler hotKeySampler,
+            ToIntFunction<Object> payloadSize) {
+        this.delegate = delegate;
+        this.registry = registry;
+        this.hotKeySampler = hotKeySampler;
+        this.payloadSize = payloadSize;
+    }
+
+    @Override
+    public <T> Optional<T> get(String key, Class<T> type) {
+        String prefix = prefixOf(key);
+        hotKeySampler.record(key);
+        Optional<T> value = time("get", prefix, () -> delegate.get(key, type));
+        lookups(prefix, value.isPresent()).increment();
+        return value;
+    }
+
+    @Override
+    public <T> Map<String, T> getAll(Collection<String> keys, Class<T> type) {
+        Map<String, T> found = time("getAll", prefixOf(keys), () -> delegate.getAll(keys, type));
+        for (String key : keys) {
+            hotKeySampler.record(key);
+            lookups(prefixOf(key), found.containsKey(key)).increment();
+        }
+        return found;
+    }
+
+    @Override
+    public void put(String key, Object value) {
+        String prefix = prefixOf(key);
+        time("put", prefix, () -> delegate.put(key, value));
+        samplePayload(prefix, value);
+    }
+
+    @Override
+    public void put(String key, Object value, Duration ttl) {
+        String prefix = prefixOf(key);
+        time("put", prefix, () -> delegate.put(key, value, ttl));
+        samplePayload(prefix, value);
+    }
+
+    @Override
+    public void put(String key, Object value, Duration ttl, Collection<String> tags) {
+        String prefix = prefixOf(key);
+        time("put", prefix, () -> delegate.put(key, value, ttl, tags));
+        samplePayload(prefix, value);
+    }
+
+    @Override
+    public void putAll(Map<String, ?> entries, Duration ttl) {
+        time("putAll", prefixOf(entries.keySet()), () -> delegate.putAll(entries, ttl));
+        entries.forEach((key, value) -> samplePayload(prefixOf(key), value));
+    }
+
+    @Override
+    public void evict(String key) {
+        String prefix = prefixOf(key);
+        time("evict", prefix, () -> delegate.evict(key));
+        evictions(prefix, "key").increment();
+    }
+
+    @Override
+    public void evictAll(Collection<String> keys) {
+        time("evictAll", prefixOf(keys), () -> delegate.evictAll(keys));
+        for (String key : keys) {
+            evictions(prefixOf(key), "key").increment();
+        }
+    }
+
+    @Override
+    public void evictByTag(String tag) {
+        String prefix = prefixOf(tag);
+        time("evictByTag", prefix, () -> delegate.evictByTag(tag));
+        evictions(prefix, "tag").increment();
+    }
+
+    @Override
+    public void evictByPattern(String pattern) {
+        String prefix = prefixOf(pattern);
+        time("evictByPattern", prefix, () -> delegate.evictByPattern(pattern));
+        evictions(prefix, "pattern").increment();
+    }
+
+    @Override
+    public boolean exists(String key) {
+        return time("exists", prefixOf(key), () -> delegate.exists(key));
+    }
+
+    private <R> R time(String operation, String prefix, Supplier<R> call) {
+        Timer timer = timers.computeIfAbsent(operation + '|' + prefix, id -> Timer.builder("cache.latency")
+                .tag("operation", operation)
+                .tag("prefix", prefix)
+                .publishPercentileHistogram()
+                .register(registry));
+        return timer.record(call);
+    }
+
+    private void time(String operation, String prefix, Runnable call) {
+        time(operation, prefix, () -> {
+            call.run();
+            return null;
+        });
+    }
+
+    private Counter lookups(String prefix, boolean hit) {
+        String result = hit ? "hit" : "miss";
+        return counters.computeIfAbsent("gets|" + result + '|' + prefix, id -> Counter.builder("cache.gets")
+                .tag("result", result)
+                .tag("prefix", prefix)
+                .register(registry));
+    }
+
+    private Counter evictions(String prefix, String scope) {
+        return counters.computeIfAbsent("evictions|" + scope + '|' + prefix, id -> Counter.builder("cache.evictions")
+                .tag("scope", scope)
+                .tag("prefix", prefix)
+                .register(registry));
+    }
+
+    private void samplePayload(String prefix, Object value) {
+        if (value == null || ThreadLocalRandom.current().nextInt(PAYLOAD_SAMPLE_RATE) != 0) {
+            return;
+        }
+        payloadSizes.computeIfAbsent(prefix, id -> DistributionSummary.builder("cache.payload.size")
+                        .baseUnit("bytes")
+                        .tag("prefix", prefix)
+                        .publishPercentileHistogram()
+                        .register(registry))
+                .record(payloadSize.applyAsInt(value));
+    }
+
+    private String prefixOf(Collection<String> keys) {
+        String common = null;
+        for (String key : keys) {
+            String prefix = prefixOf(key);
+            if (common == null) {
+                common = prefix;
+            } else if (!common.equals(prefix)) {
+                return MIXED_PREFIX;
+            }
+        }
+        return common != null ? common : OTHER_PREFIX;
+    }
+
+    private String prefixOf(String key) {
+        int separator = key.indexOf(':');
+        if (separator <= 0) {
+            return OTHER_PREFIX;
+        }
+        String prefix = key.substring(0, separator + 1);
+        if (prefixes.contains(prefix)) {
+            return prefix;
+        }
+        if (prefixes.size() < MAX_PREFIXES) {
+            prefixes.add(prefix);
+            return prefix;
+        }
+        return OTHER_PREFIX;
+    }
+}
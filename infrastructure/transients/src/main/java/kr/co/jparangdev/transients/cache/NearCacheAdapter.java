@@ -0,0 +1,377 @@
+package kr.co.jparangdev.transients.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import kr.co.jparangdev.application.common.port.CachePort;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+/**
+ * Two-tier CachePort: a bounded in-process cache (Caffeine, W-TinyLFU eviction) in front
+ * of {@link RedisCacheAdapter}.
+ * <p>
+ * Local entries never outlive the Redis entry they were read from, nor the configured
+ * local TTL. Writes go to Redis and invalidate the local copy on every node through
+ * Redis pub/sub; a node that misses a message serves stale data for at most the local TTL.
+ * Only keys starting with one of the configured prefixes are cached locally; with no
+ * prefixes configured, all keys are.
+ * <p>
+ * Every invalidation advances a version for the key (striped) or, for patterns, for all
+ * keys. A read that fetched from Redis only fills L1 if the version is unchanged once the
+ * entry is in place, so a value read before a concurrent write cannot outlive its
+ * invalidation.
+ */
+@Slf4j
+public class NearCacheAdapter implements CachePort, MessageListener {
+
+    public static final String INVALIDATION_CHANNEL = "transients:cache:invalidate";
+
+    private static final String KEY_INVALIDATION = "K";
+    private static final String PATTERN_INVALIDATION = "P";
+    private static final int VERSION_STRIPES = 1024;
+
+    private final RedisCacheAdapter redisCache;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final Cache<String, LocalEntry> localCache;
+    private final long maxLocalTtlNanos;
+    private final List<String> keyPrefixes;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final AtomicLongArray keyVersions = new AtomicLongArray(VERSION_STRIPES);
+    private final AtomicLong patternVersion = new AtomicLong();
+
+    private final LongAdder l1Hits = new LongAdder();
+    private final LongAdder l2Hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public NearCacheAdapter(RedisCacheAdapter redisCache, StringRedisTemplate stringRedisTemplate,
+            long maxWeightBytes, Duration maxLocalTtl, List<String> keyPrefixes) {
+        this.redisCache = redisCache;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.maxLocalTtlNanos = maxLocalTtl.toNanos();
+        this.keyPrefixes = List.copyOf(keyPrefixes);
+        this.localCache = Caffeine.newBuilder()
+                .maximumWeight(maxWeightBytes)
+                .weigher((String key, LocalEntry entry) -> entry.weight)
+                .expireAfter(new Expiry<String, LocalEntry>() {
+                    @Override
+                    public long expireAfterCreate(String key, LocalEntry entry, long currentTime) {
+                        return entry.ttlNanos;
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, LocalEntry entry, long currentTime,
+                            long currentDuration) {
+                        return entry.ttlNanos;
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, LocalEntry entry, long currentTime,
+                            long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+    }
+
+    @Override
+    public <T> Optional<T> get(String key, Class<T> type) {
+        if (!isNearCached(key)) {
+            return redisCache.get(key, type);
+        }
+
+        LocalEntry local = localCache.getIfPresent(key);
+        if (local != null) {
+            l1Hits.increment();
+            return Optional.of(type.cast(local.value));
+        }
+
+        long version = version(key);
+        Optional<CachedEntry<T>> remote = redisCache.getWithTtl(key, type);
+        if (remote.isEmpty()) {
+            misses.increment();
+            return Optional.empty();
+        }
+        l2Hits.increment();
+        fillLocal(key, remote.get(), version);
+        return Optional.of(remote.get().getValue());
+    }
+
+    /**
+     * Serves what it can from L1, then fetches near-cached misses with one pipelined
+     * GET + PTTL batch and the remaining keys with MGET.
+     */
+    @Override
+    public <T> Map<String, T> getAll(Collection<String> keys, Class<T> type) {
+        Map<String, T> found = new HashMap<>();
+        List<String> nearMisses = new ArrayList<>();
+        List<String> farKeys = new ArrayList<>();
+
+        for (String key : keys) {
+            if (!isNearCached(key)) {
+                farKeys.add(key);
+                continue;
+            }
+            LocalEntry local = localCache.getIfPresent(key);
+            if (local != null) {
+                l1Hits.increment();
+                found.put(key, type.cast(local.value));
+            } else {
+                nearMisses.add(key);
+            }
+        }
+
+        if (!nearMisses.isEmpty()) {
+            Map<String, Long> versions = new HashMap<>();
+            nearMisses.forEach(key -> versions.put(key, version(key)));
+            Map<String, CachedEntry<T>> remote = redisCache.getAllWithTtl(nearMisses, type);
+            l2Hits.add(remote.size());
+            misses.add(nearMisses.size() - remote.size());
+            remote.forEach((key, entry) -> {
+                fillLocal(key, entry, versions.get(key));
+                found.put(key, entry.getValue());
+            });
+        }
+        if (!farKeys.isEmpty()) {
+            found.putAll(redisCache.getAll(farKeys, type));
+        }
+        return found;
+    }
+
+    @Override
+    public void put(String key, Object value) {
+        redisCache.put(key, value);
+        invalidate(key);
+    }
+
+    @Override
+    public void put(String key, Object value, Duration ttl) {
+        redisCache.put(key, value, ttl);
+        invalidate(key);
+    }
+
+    @Override
+    public void put(String key, Object value, Duration ttl, Collection<String> tags) {
+        redisCache.put(key, value, ttl, tags);
+        invalidate(key);
+    }
+
+    @Override
+    public void putAll(Map<String, ?> entries, Duration ttl) {
+        redisCache.putAll(entries, ttl);
+        invalidateAll(List.copyOf(entries.keySet()));
+    }
+
+    @Override
+    public void evict(String key) {
+        redisCache.evict(key);
+        invalidate(key);
+    }
+
+    @Override
+    public void evictAll(Collection<String> keys) {
+        redisCache.evictAll(keys);
+        invalidateAll(List.copyOf(keys));
+    }
+
+    @Override
+    public void evictByTag(String tag) {
+        redisCache.evictByTag(tag, this::invalidateAll);
+    }
+
+    @Override
+    public void evictByPattern(String pattern) {
+        redisCache.evictByPattern(pattern);
+        invalidateLocalPattern(pattern);
+        publish(PATTERN_INVALIDATION, List.of(pattern));
+    }
+
+    @Override
+    public boolean exists(String key) {
+        return (isNearCached(key) && localCache.getIfPresent(key) != null) || redisCache.exists(key);
+    }
+
+    public NearCacheStats stats() {
+        return new NearCacheStats(l1Hits.sum(), l2Hits.sum(), misses.sum());
+    }
+
+    /**
+     * Applies invalidations published by other nodes.
+     * Messages are newline-separated: node id, type, then one or more keys or patterns,
+     * each escaped by {@link #escape}.
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split("\n", -1);
+        if (parts.length < 3 || parts[0].equals(nodeId)) {
+            return;
+        }
+        List<String> items = Arrays.stream(parts, 2, parts.length)
+                .map(NearCacheAdapter::unescape)
+                .toList();
+        if (KEY_INVALIDATION.equals(parts[1])) {
+            invalidateLocal(items);
+        } else if (PATTERN_INVALIDATION.equals(parts[1])) {
+            items.forEach(this::invalidateLocalPattern);
+        }
+    }
+
+    private boolean isNearCached(String key) {
+        if (keyPrefixes.isEmpty()) {
+            return true;
+        }
+        for (String prefix : keyPrefixes) {
+            if (key.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void invalidate(String key) {
+        invalidateLocal(List.of(key));
+        publish(KEY_INVALIDATION, List.of(key));
+    }
+
+    private void invalidateAll(List<String> keys) {
+        if (keys.isEmpty()) {
+            return;
+        }
+        invalidateLocal(keys);
+        publish(KEY_INVALIDATION, keys);
+    }
+
+    /**
+     * Advances the keys' versions before dropping them, so fills already in flight discard themselves.
+     */
+    private void invalidateLocal(List<String> keys) {
+        keys.forEach(key -> keyVersions.incrementAndGet(stripe(key)));
+        localCache.invalidateAll(keys);
+    }
+
+    private <T> void fillLocal(String key, CachedEntry<T> entry, long version) {
+        long ttlNanos = entry.getTtl() != null
+                ? Math.min(maxLocalTtlNanos, entry.getTtl().toNanos())
+                : maxLocalTtlNanos;
+        if (ttlNanos <= 0 || version(key) != version) {
+            return;
+        }
+        // Weigh by serialized size plus the key, a cheap proxy for the heap footprint
+        LocalEntry local = new LocalEntry(entry.getValue(), ttlNanos, entry.getSerializedSize() + key.length());
+        localCache.put(key, local);
+        // An invalidation between the check and the put may have run before the entry existed
+        if (version(key) != version) {
+            localCache.asMap().remove(key, local);
+        }
+    }
+
+    private void invalidateLocalPattern(String pattern) {
+        patternVersion.incrementAndGet();
+        Pattern regex = globToRegex(pattern);
+        localCache.asMap().keySet().removeIf(key -> regex.matcher(key).matches());
+    }
+
+    /**
+     * Changes whenever the key, a key sharing its stripe, or any pattern is invalidated.
+     */
+    private long version(String key) {
+        return keyVersions.get(stripe(key)) + patternVersion.get();
+    }
+
+    private static int stripe(String key) {
+        return (key.hashCode() & Integer.MAX_VALUE) % VERSION_STRIPES;
+    }
+
+    private void publish(String type, List<String> items) {
+        try {
+            StringBuilder body = new StringBuilder(nodeId).append('\n').append(type);
+            items.forEach(item -> body.append('\n').append(escape(item)));
+            stringRedisTemplate.convertAndSend(INVALIDATION_CHANNEL, body.toString());
+        } catch (Exception e) {
+            // Other nodes converge once their local TTL expires
+            log.warn("Failed to publish near cache invalidation of {} item(s): {}", items.size(), e.getMessage());
+        }
+    }
+
+    /**
+     * Escapes backslashes and newlines so any key fits on one line of an invalidation message.
+     */
+    static String escape(String item) {
+        return item.replace("\\", "\\\\").replace("\n", "\\n");
+    }
+
+    static String unescape(String item) {
+        if (item.indexOf('\\') < 0) {
+            return item;
+        }
+        StringBuilder unescaped = new StringBuilder(item.length());
+        for (int i = 0; i < item.length(); i++) {
+            char c = item.charAt(i);
+            if (c == '\\' && i + 1 < item.length()) {
+                char next = item.charAt(++i);
+                unescaped.append(next == 'n' ? '\n' : next);
+            } else {
+                unescaped.append(c);
+            }
+        }
+        return unescaped.toString();
+    }
+
+    /**
+     * Converts a Redis glob ({@code *}, {@code ?}, {@code [...]}, {@code \} escapes) to a regex.
+     */
+    static Pattern globToRegex(String glob) {
+        StringBuilder regex = new StringBuilder();
+        boolean inClass = false;
+        for (int i = 0; i < glob.length(); i++) {
+            char c = glob.charAt(i);
+            if (c == '\\' && i + 1 < glob.length()) {
+                regex.append(Pattern.quote(String.valueOf(glob.charAt(++i))));
+            } else if (inClass) {
+                if (c == ']') {
+                    inClass = false;
+                }
+                regex.append(c);
+            } else if (c == '*') {
+                regex.append(".*");
+            } else if (c == '?') {
+                regex.append('.');
+            } else if (c == '[') {
+                inClass = true;
+                regex.append(c);
+            } else {
+                regex.append(Pattern.quote(String.valueOf(c)));
+            }
+        }
+        return Pattern.compile(regex.toString(), Pattern.DOTALL);
+    }
+
+    private static final class LocalEntry {
+        private final Object value;
+        private final long ttlNanos;
+        private final int weight;
+
+        private LocalEntry(Object value, long ttlNanos, int weight) {
+            this.value = value;
+            this.ttlNanos = ttlNanos;
+            this.weight = weight;
+        }
+    }
+}
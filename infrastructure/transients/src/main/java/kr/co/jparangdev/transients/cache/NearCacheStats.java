@@ -0,0 +1,32 @@
+package kr.co.jparangdev.transients.cache;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Point-in-time hit counters of the near cache.
+ * The L1 ratio is over all near-cached lookups; the L2 ratio only over those that missed L1.
+ */
+@Getter
+@RequiredArgsConstructor
+public class NearCacheStats {
+    private final long l1Hits;
+    private final long l2Hits;
+    private final long misses;
+
+    public double getL1HitRatio() {
+        long requests = l1Hits + l2Hits + misses;
+        return requests == 0 ? 0.0 : (double) l1Hits / requests;
+    }
+
+    public double getL2HitRatio() {
+        long l1Misses = l2Hits + misses;
+        return l1Misses == 0 ? 0.0 : (double) l2Hits / l1Misses;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("l1Hits=%d, l2Hits=%d, misses=%d, l1HitRatio=%.3f, l2HitRatio=%.3f",
+                l1Hits, l2Hits, misses, getL1HitRatio(), getL2HitRatio());
+    }
+}
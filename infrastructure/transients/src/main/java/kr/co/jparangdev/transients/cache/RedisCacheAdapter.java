@@ -1,26 +1,106 @@
 package kr.co.jparangdev.transients.cache;
 
 import kr.co.jparangdev.application.common.port.CachePort;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.stereotype.Component;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Consumer;
 
 /**
  * Redis implementation of the CachePort interface.
  * Uses Spring Data Redis for cache operations.
  */
 @Component
+@ConditionalOnProperty(prefix = "transients.cache", name = "type", havingValue = "redis", matchIfMissing = true)
 public class RedisCacheAdapter implements CachePort {
 
     private static final Duration DEFAULT_TTL = Duration.ofMinutes(30);
+    /** Up to this much is added at random to the default TTL so entries written together expire apart. */
+    private static final Duration DEFAULT_TTL_JITTER = Duration.ofMinutes(3);
+    private static final String TAG_PREFIX = "tag:";
+    private static final int SCAN_BATCH_SIZE = 500;
+    /** Upper bound on keys per MGET or pipeline, so one call never monopolises the server. */
+    private static final int MAX_BATCH_SIZE = 500;
+
+    /** Prefix of the set recording which tag sets reference a key; it lives as long as the key. */
+    private static final String KEY_TAGS_PREFIX = "tags:";
+    /** Tag set members probed for dead keys on every tagged write. */
+    private static final int TAG_TRIM_SAMPLE = 3;
+
+    /**
+     * KEYS[1] is the cached key, KEYS[2] its tags record, KEYS[3..n] its tag sets, ARGV[1] the
+     * key's TTL in ms, ARGV[2] the tags record prefix, ARGV[3] the trim sample size.
+     * <p>
+     * A set's TTL is only ever extended, so it outlives every key it references. Members whose
+     * tags record is gone, because they were evicted or expired, are trimmed by sampling a few
+     * on every write, which keeps dead members to a small fraction of a set that never expires.
+     * The tags record rather than the key marks a member as live, since the key is only written
+     * after this script. Names the script derives are not declared in KEYS, so this assumes a
+     * single Redis node, as tag sets already do.
+     */
+    private static final RedisScript<Long> TAG_SCRIPT = new DefaultRedisScript<>("""
+            local ttl = tonumber(ARGV[1])
+            for i = 3, #KEYS do
+                for _, member in ipairs(redis.call('SRANDMEMBER', KEYS[i], tonumber(ARGV[3]))) do
+                    if member ~= KEYS[1] and redis.call('EXISTS', ARGV[2] .. member) == 0 then
+                        redis.call('SREM', KEYS[i], member)
+                    end
+                end
+                redis.call('SADD', KEYS[i], KEYS[1])
+                if redis.call('PTTL', KEYS[i]) < ttl then
+                    redis.call('PEXPIRE', KEYS[i], ttl)
+                end
+                redis.call('SADD', KEYS[2], KEYS[i])
+            end
+            if redis.call('PTTL', KEYS[2]) < ttl then
+                redis.call('PEXPIRE', KEYS[2], ttl)
+            end
+            return #KEYS - 2
+            """, Long.class);
+
+    /**
+     * KEYS are the keys to evict, ARGV[1] the tags record prefix. Removes each key from the
+     * tag sets its record names, then unlinks the key and the record.
+     */
+    private static final RedisScript<Long> EVICT_SCRIPT = new DefaultRedisScript<>("""
+            for i = 1, #KEYS do
+                local record = ARGV[1] .. KEYS[i]
+                for _, tagSet in ipairs(redis.call('SMEMBERS', record)) do
+                    redis.call('SREM', tagSet, KEYS[i])
+                end
+                redis.call('UNLINK', KEYS[i], record)
+            end
+            return #KEYS
+            """, Long.class);
 
     private final RedisTemplate<String, Object> redisTemplate;
+    private final StringRedisTemplate stringRedisTemplate;
 
-    public RedisCacheAdapter(RedisTemplate<String, Object> redisTemplate) {
+    public RedisCacheAdapter(RedisTemplate<String, Object> redisTemplate, StringRedisTemplate stringRedisTemplate) {
         this.redisTemplate = redisTemplate;
+        this.stringRedisTemplate = stringRedisTemplate;
     }
 
     @Override
@@ -32,9 +112,66 @@ public class RedisCacheAdapter implements CachePort {
         return Optional.of(type.cast(value));
     }
 
+    @Override
+    public <T> Map<String, T> getAll(Collection<String> keys, Class<T> type) {
+        Map<String, T> found = new HashMap<>();
+        for (List<String> chunk : chunks(keys)) {
+            List<Object> values = redisTemplate.opsForValue().multiGet(chunk);
+            if (values == null) {
+                continue;
+            }
+            for (int i = 0; i < chunk.size(); i++) {
+                Object value = values.get(i);
+                if (value != null) {
+                    found.put(chunk.get(i), type.cast(value));
+                }
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Reads a value and its remaining TTL in one pipelined round trip (GET + PTTL).
+     */
+    public <T> Optional<CachedEntry<T>> getWithTtl(String key, Class<T> type) {
+        return Optional.ofNullable(getAllWithTtl(List.of(key), type).get(key));
+    }
+
+    /**
+     * Reads values and their remaining TTLs with one pipelined GET + PTTL per key,
+     * one round trip per batch of keys.
+     */
+    public <T> Map<String, CachedEntry<T>> getAllWithTtl(Collection<String> keys, Class<T> type) {
+        Map<String, CachedEntry<T>> found = new HashMap<>();
+        for (List<String> chunk : chunks(keys)) {
+            List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (String key : chunk) {
+                    byte[] rawKey = rawKey(key);
+                    connection.stringCommands().get(rawKey);
+                    connection.keyCommands().pTtl(rawKey);
+                }
+                return null;
+            }, RedisSerializer.byteArray());
+
+            for (int i = 0; i < chunk.size(); i++) {
+                byte[] rawValue = (byte[]) results.get(2 * i);
+                Long ttlMillis = (Long) results.get(2 * i + 1);
+                // PTTL is -2 when the key expired between the two commands, -1 when it has no expiry
+                if (rawValue == null || ttlMillis == null || ttlMillis == -2) {
+                    continue;
+                }
+                Object value = redisTemplate.getValueSerializer().deserialize(rawValue);
+                Duration ttl = ttlMillis >= 0 ? Duration.ofMillis(ttlMillis) : null;
+                found.put(chunk.get(i), new CachedEntry<>(type.cast(value), ttl, rawValue.length));
+            }
+        }
+        return found;
+    }
+
     @Override
     public void put(String key, Object value) {
-        put(key, value, DEFAULT_TTL);
+        long jitterMillis = ThreadLocalRandom.current().nextLong(DEFAULT_TTL_JITTER.toMillis() + 1);
+        put(key, value, DEFAULT_TTL.plusMillis(jitterMillis));
     }
 
     @Override
@@ -42,16 +179,91 @@ public class RedisCacheAdapter implements CachePort {
         redisTemplate.opsForValue().set(key, value, ttl);
     }
 
+    @Override
+    public void put(String key, Object value, Duration ttl, Collection<String> tags) {
+        if (!tags.isEmpty()) {
+            // Tag first, so a cached key is always reachable through its tags
+            List<String> keys = new ArrayList<>(tags.size() + 2);
+            keys.add(key);
+            keys.add(KEY_TAGS_PREFIX + key);
+            tags.forEach(tag -> keys.add(TAG_PREFIX + tag));
+            stringRedisTemplate.execute(TAG_SCRIPT, keys, String.valueOf(ttl.toMillis()), KEY_TAGS_PREFIX,
+                    String.valueOf(TAG_TRIM_SAMPLE));
+        }
+        put(key, value, ttl);
+    }
+
+    @Override
+    public void putAll(Map<String, ?> entries, Duration ttl) {
+        Expiration expiration = Expiration.from(ttl);
+        for (List<String> chunk : chunks(entries.keySet())) {
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (String key : chunk) {
+                    connection.stringCommands().set(rawKey(key), rawValue(entries.get(key)), expiration,
+                            RedisStringCommands.SetOption.upsert());
+                }
+                return null;
+            });
+        }
+    }
+
+    /**
+     * Unlinks the key and drops it from its tag sets, so tag sets do not collect evicted keys.
+     */
     @Override
     public void evict(String key) {
-        redisTemplate.delete(key);
+        unlink(List.of(key));
+    }
+
+    @Override
+    public void evictAll(Collection<String> keys) {
+        for (List<String> chunk : chunks(keys)) {
+            unlink(chunk);
+        }
+    }
+
+    @Override
+    public void evictByTag(String tag) {
+        evictByTag(tag, keys -> {
+        });
+    }
+
+    /**
+     * Evicts the keys of a tag with SSCAN + UNLINK, passing each unlinked batch to {@code evicted}.
+     * Evicted keys also leave their other tag sets, so the cost stays proportional to the keys
+     * the tag still references.
+     */
+    public void evictByTag(String tag, Consumer<List<String>> evicted) {
+        // Detach the tag set first: keys tagged while we iterate go to a fresh set rather than being lost
+        String snapshotKey = TAG_PREFIX + tag + ":evicting:" + UUID.randomUUID();
+        try {
+            stringRedisTemplate.rename(TAG_PREFIX + tag, snapshotKey);
+        } catch (DataAccessException e) {
+            // No such tag
+            return;
+        }
+
+        ScanOptions options = ScanOptions.scanOptions().count(SCAN_BATCH_SIZE).build();
+        try (Cursor<String> members = stringRedisTemplate.opsForSet().scan(snapshotKey, options)) {
+            unlinkInBatches(members, evicted);
+        }
+        stringRedisTemplate.unlink(snapshotKey);
     }
 
     @Override
     public void evictByPattern(String pattern) {
-        Set<String> keys = redisTemplate.keys(pattern);
-        if (keys != null && !keys.isEmpty()) {
-            redisTemplate.delete(keys);
+        evictByPattern(pattern, keys -> {
+        });
+    }
+
+    /**
+     * Evicts matching keys with incremental SCAN + UNLINK, passing each unlinked batch to
+     * {@code evicted}. Never blocks Redis for long, but walks the whole keyspace.
+     */
+    public void evictByPattern(String pattern, Consumer<List<String>> evicted) {
+        ScanOptions options = ScanOptions.scanOptions().match(pattern).count(SCAN_BATCH_SIZE).build();
+        try (Cursor<String> keys = redisTemplate.scan(options)) {
+            unlinkInBatches(keys, evicted);
         }
     }
 
@@ -60,4 +272,43 @@ public class RedisCacheAdapter implements CachePort {
         Boolean exists = redisTemplate.hasKey(key);
         return Boolean.TRUE.equals(exists);
     }
+
+    private void unlinkInBatches(Iterator<String> keys, Consumer<List<String>> evicted) {
+        List<String> batch = new ArrayList<>(SCAN_BATCH_SIZE);
+        while (keys.hasNext()) {
+            batch.add(keys.next());
+            if (batch.size() == SCAN_BATCH_SIZE) {
+                unlink(batch);
+                evicted.accept(List.copyOf(batch));
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            unlink(batch);
+            evicted.accept(List.copyOf(batch));
+        }
+    }
+
+    private void unlink(List<String> keys) {
+        stringRedisTemplate.execute(EVICT_SCRIPT, keys, KEY_TAGS_PREFIX);
+    }
+
+    private static List<List<String>> chunks(Collection<String> keys) {
+        List<String> distinct = new ArrayList<>(new LinkedHashSet<>(keys));
+        List<List<String>> chunks = new ArrayList<>();
+        for (int from = 0; from < distinct.size(); from += MAX_BATCH_SIZE) {
+            chunks.add(distinct.subList(from, Math.min(from + MAX_BATCH_SIZE, distinct.size())));
+        }
+        return chunks;
+    }
+
+    @SuppressWarnings("unchecked")
+    private byte[] rawKey(String key) {
+        return ((RedisSerializer<String>) redisTemplate.getKeySerializer()).serialize(key);
+    }
+
+    @SuppressWarnings("unchecked")
+    private byte[] rawValue(Object value) {
+        return ((RedisSerializer<Object>) redisTemplate.getValueSerializer()).serialize(value);
+    }
 }
@@ -0,0 +1,89 @@
+package kr.co.jparangdev.transients.config;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import kr.co.jparangdev.application.common.port.CachePort;
+import kr.co.jparangdev.transients.cache.CacheHotKeysEndpoint;
+import kr.co.jparangdev.transients.cache.HotKeySampler;
+import kr.co.jparangdev.transients.cache.MappedFileCacheAdapter;
+import kr.co.jparangdev.transients.cache.MeteredCachePort;
+import kr.co.jparangdev.transients.cache.NearCacheAdapter;
+import kr.co.jparangdev.transients.cache.RedisCacheAdapter;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.time.Duration;
+
+/**
+ * Assembles the CachePort the application uses: the memory-mapped cache when
+ * {@code transients.cache.type=mapped}, otherwise the near cache when enabled, otherwise Redis,
+ * wrapped in {@link MeteredCachePort} when a MeterRegistry is available
+ * (disable with {@code transients.cache.metrics.enabled=false}).
+ */
+@Configuration
+public class CachePortConfig {
+
+    @Value("${transients.cache.metrics.enabled:true}")
+    private boolean metricsEnabled;
+
+    @Value("${transients.cache.metrics.hot-keys.capacity:256}")
+    private int hotKeyCapacity;
+
+    @Value("${transients.cache.metrics.hot-keys.sample-rate:8}")
+    private int hotKeySampleRate;
+
+    @Value("${transients.cache.metrics.hot-keys.decay-interval:1m}")
+    private Duration hotKeyDecayInterval;
+
+    @Bean
+    @Primary
+    public CachePort cachePort(ObjectProvider<MappedFileCacheAdapter> mappedFileCacheAdapter,
+            ObjectProvider<NearCacheAdapter> nearCacheAdapter, ObjectProvider<RedisCacheAdapter> redisCacheAdapter,
+            ObjectProvider<MeterRegistry> meterRegistry, HotKeySampler hotKeySampler,
+            RedisSerializer<Object> cacheValueSerializer) {
+        NearCacheAdapter nearCache = nearCacheAdapter.getIfAvailable();
+        MappedFileCacheAdapter mappedCache = mappedFileCacheAdapter.getIfAvailable();
+        CachePort cache = mappedCache != null ? mappedCache
+                : nearCache != null ? nearCache
+                : redisCacheAdapter.getObject();
+
+        MeterRegistry registry = meterRegistry.getIfAvailable();
+        if (!metricsEnabled || registry == null) {
+            return cache;
+        }
+
+        if (nearCache != null) {
+            bindNearCacheStats(nearCache, registry);
+        }
+        return new MeteredCachePort(cache, registry, hotKeySampler, value -> {
+            byte[] bytes = cacheValueSerializer.serialize(value);
+            return bytes != null ? bytes.length : 0;
+        });
+    }
+
+    @Bean
+    public HotKeySampler cacheHotKeySampler() {
+        return new HotKeySampler(hotKeyCapacity, hotKeySampleRate, hotKeyDecayInterval);
+    }
+
+    @Bean
+    public CacheHotKeysEndpoint cacheHotKeysEndpoint(HotKeySampler cacheHotKeySampler) {
+        return new CacheHotKeysEndpoint(cacheHotKeySampler);
+    }
+
+    private static void bindNearCacheStats(NearCacheAdapter nearCache, MeterRegistry registry) {
+        FunctionCounter.builder("cache.near.lookups", nearCache, near -> near.stats().getL1Hits())
+                .tag("result", "l1-hit")
+                .register(registry);
+        FunctionCounter.builder("cache.near.lookups", nearCache, near -> near.stats().getL2Hits())
+                .tag("result", "l2-hit")
+                .register(registry);
+        FunctionCounter.builder("cache.near.lookups", nearCache, near -> near.stats().getMisses())
+                .tag("result", "miss")
+                .register(registry);
+    }
+}
@@ -0,0 +1,34 @@
+package kr.co.jparangdev.transients.config;
+
+import kr.co.jparangdev.transients.cache.MappedFileCacheAdapter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+
+/**
+ * Replaces Redis with the off-heap, memory-mapped cache for single-node deployments.
+ * Enable with {@code transients.cache.type=mapped}.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "transients.cache", name = "type", havingValue = "mapped")
+public class MappedCacheConfig {
+
+    @Value("${transients.cache.mapped.directory:./cache-data}")
+    private Path directory;
+
+    @Value("${transients.cache.mapped.max-size:256MB}")
+    private DataSize maxSize;
+
+    @Value("${transients.cache.mapped.segments:16}")
+    private int segments;
+
+    @Bean(destroyMethod = "close")
+    public MappedFileCacheAdapter mappedFileCacheAdapter(RedisSerializer<Object> cacheValueSerializer) {
+        return new MappedFileCacheAdapter(directory, maxSize.toBytes(), segments, cacheValueSerializer);
+    }
+}
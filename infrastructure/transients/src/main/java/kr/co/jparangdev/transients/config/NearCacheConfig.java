@@ -0,0 +1,53 @@
+package kr.co.jparangdev.transients.config;
+
+import kr.co.jparangdev.transients.cache.NearCacheAdapter;
+import kr.co.jparangdev.transients.cache.RedisCacheAdapter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Puts the in-process near cache in front of Redis; {@link CachePortConfig} exposes it as the CachePort.
+ * Only used with the Redis cache; disable with {@code transients.cache.near.enabled=false}.
+ * <p>
+ * Only keys under the configured prefixes are held locally. Version tokens (see
+ * {@code CacheAside#currentVersion}) must stay outside them: a token cached on one node would
+ * keep serving the previous version after a write on another until invalidation arrives.
+ */
+@Configuration
+@ConditionalOnExpression("'${transients.cache.type:redis}' == 'redis' and ${transients.cache.near.enabled:true}")
+public class NearCacheConfig {
+
+    @Value("${transients.cache.near.max-size:64MB}")
+    private DataSize maxSize;
+
+    @Value("${transients.cache.near.ttl:30s}")
+    private Duration ttl;
+
+    @Value("${transients.cache.near.key-prefixes:post:,user:,comment:,comments:post:}")
+    private List<String> keyPrefixes;
+
+    @Bean
+    public NearCacheAdapter nearCacheAdapter(RedisCacheAdapter redisCacheAdapter,
+            StringRedisTemplate stringRedisTemplate) {
+        return new NearCacheAdapter(redisCacheAdapter, stringRedisTemplate, maxSize.toBytes(), ttl, keyPrefixes);
+    }
+
+    @Bean
+    public RedisMessageListenerContainer nearCacheInvalidationListenerContainer(
+            RedisConnectionFactory connectionFactory, NearCacheAdapter nearCacheAdapter) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(nearCacheAdapter, new ChannelTopic(NearCacheAdapter.INVALIDATION_CHANNEL));
+        return container;
+    }
+}
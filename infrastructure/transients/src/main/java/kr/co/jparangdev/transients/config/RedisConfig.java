@@ -2,20 +2,72 @@ package kr.co.jparangdev.transients.config;
 
 import com.fasterxml.jackson.annotation.JsonTypeInfo;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.jsontype.TypeResolverBuilder;
 import com.fasterxml.jackson.databind.jsontype.impl.LaissezFaireSubTypeValidator;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import kr.co.jparangdev.application.comment.CommentDto;
+import kr.co.jparangdev.application.comment.CommentFeedHead;
+import kr.co.jparangdev.application.common.cache.CacheEntry;
+import kr.co.jparangdev.application.post.PostDto;
+import kr.co.jparangdev.application.user.UserDto;
+import kr.co.jparangdev.transients.serializer.AliasingClassIdResolver;
+import kr.co.jparangdev.transients.serializer.CompactRedisSerializer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.springframework.util.unit.DataSize;
+
+import java.util.Map;
 
 @Configuration
 public class RedisConfig {
 
+    /**
+     * Short type ids for the compact serializer. Aliases are part of the stored format:
+     * never reuse or rename one, add a new alias instead.
+     */
+    private static final Map<Class<?>, String> TYPE_ALIASES = Map.of(
+            CacheEntry.class, "#entry",
+            PostDto.class, "#post",
+            UserDto.class, "#user",
+            CommentDto.class, "#comment",
+            CommentFeedHead.class, "#comment-feed");
+
+    /**
+     * Format cached values are written in: {@code json} (default) or {@code compact}. Both read
+     * either format, so switch to compact only once every node runs a version whose json mode
+     * reads it.
+     */
+    @Value("${transients.cache.serializer:json}")
+    private String serializer;
+
+    @Value("${transients.cache.compression-threshold:1KB}")
+    private DataSize compressionThreshold;
+
+    /**
+     * Serializer for cached values, shared by every CachePort implementation.
+     */
     @Bean
-    public RedisTemplate<String, Object> redisTemplate(RedisConnectionFactory connectionFactory) {
+    public RedisSerializer<Object> cacheValueSerializer() {
+        return switch (serializer) {
+            case "json" -> compactSerializer(false);
+            case "compact" -> compactSerializer(true);
+            default -> throw new IllegalStateException(
+                    "Unknown transients.cache.serializer '" + serializer + "', expected json or compact");
+        };
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "transients.cache", name = "type", havingValue = "redis", matchIfMissing = true)
+    public RedisTemplate<String, Object> redisTemplate(RedisConnectionFactory connectionFactory,
+            RedisSerializer<Object> cacheValueSerializer) {
         RedisTemplate<String, Object> template = new RedisTemplate<>();
         template.setConnectionFactory(connectionFactory);
 
@@ -23,7 +75,18 @@ public class RedisConfig {
         template.setKeySerializer(new StringRedisSerializer());
         template.setHashKeySerializer(new StringRedisSerializer());
 
-        // Value serializer with type information
+        // Value serializer
+        template.setValueSerializer(cacheValueSerializer);
+        template.setHashValueSerializer(cacheValueSerializer);
+
+        template.afterPropertiesSet();
+        return template;
+    }
+
+    /**
+     * JSON with fully-qualified class names as type information.
+     */
+    private RedisSerializer<Object> jsonSerializer() {
         ObjectMapper objectMapper = new ObjectMapper();
         objectMapper.registerModule(new JavaTimeModule());
         objectMapper.activateDefaultTyping(
@@ -31,12 +94,25 @@ public class RedisConfig {
                 ObjectMapper.DefaultTyping.NON_FINAL,
                 JsonTypeInfo.As.PROPERTY);
 
-        GenericJackson2JsonRedisSerializer jsonSerializer = new GenericJackson2JsonRedisSerializer(objectMapper);
+        return new GenericJackson2JsonRedisSerializer(objectMapper);
+    }
 
-        template.setValueSerializer(jsonSerializer);
-        template.setHashValueSerializer(jsonSerializer);
+    /**
+     * Smile with aliased type ids and Deflate above the threshold, reading JSON as a fallback.
+     * Without {@code writeCompact} it writes JSON and only reads the compact format.
+     */
+    private RedisSerializer<Object> compactSerializer(boolean writeCompact) {
+        ObjectMapper smileMapper = new ObjectMapper(new SmileFactory());
+        smileMapper.registerModule(new JavaTimeModule());
 
-        template.afterPropertiesSet();
-        return template;
+        TypeResolverBuilder<?> typing = new ObjectMapper.DefaultTypeResolverBuilder(
+                ObjectMapper.DefaultTyping.NON_FINAL, LaissezFaireSubTypeValidator.instance)
+                .init(JsonTypeInfo.Id.CLASS,
+                        new AliasingClassIdResolver(TYPE_ALIASES, LaissezFaireSubTypeValidator.instance))
+                .inclusion(JsonTypeInfo.As.PROPERTY);
+        smileMapper.setDefaultTyping(typing);
+
+        return new CompactRedisSerializer(smileMapper, jsonSerializer(), (int) compressionThreshold.toBytes(),
+                writeCompact);
     }
 }
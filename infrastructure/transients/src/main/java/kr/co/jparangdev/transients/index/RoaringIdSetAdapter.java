@@ -0,0 +1,183 @@
+package kr.co.jparangdev.transients.index;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import kr.co.jparangdev.application.common.port.IdSetPort;
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.longlong.Roaring64Bitmap;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
+
+/**
+ * IdSetPort backed by 64-bit Roaring bitmaps.
+ * <p>
+ * Snowflake ids are sparse in the low bits but share their high bits with ids created
+ * around the same time, which the ART-keyed {@link Roaring64Bitmap} stores as compressed
+ * containers at a few bytes per id, against roughly 60 for a {@code Set<Long>}.
+ * <p>
+ * Each set publishes {@code idset.size} (bytes), {@code idset.cardinality} and the
+ * {@code idset.rebuild} timer, tagged with the set name, when a MeterRegistry is available.
+ */
+@Slf4j
+@Component
+public class RoaringIdSetAdapter implements IdSetPort {
+
+    private final Map<String, RoaringIdSet> sets = new ConcurrentHashMap<>();
+    private final MeterRegistry meterRegistry;
+
+    public RoaringIdSetAdapter(ObjectProvider<MeterRegistry> meterRegistry) {
+        this.meterRegistry = meterRegistry.getIfAvailable();
+    }
+
+    @Override
+    public IdSet idSet(String name) {
+        return sets.computeIfAbsent(name, this::create);
+    }
+
+    private RoaringIdSet create(String name) {
+        if (meterRegistry == null) {
+            return new RoaringIdSet(name, null);
+        }
+        RoaringIdSet set = new RoaringIdSet(name, Timer.builder("idset.rebuild")
+                .description("Time to rebuild an id set from its source")
+                .tag("set", name)
+                .register(meterRegistry));
+        Gauge.builder("idset.size", set, RoaringIdSet::sizeInBytes)
+                .description("Memory held by an id set")
+                .baseUnit("bytes")
+                .tag("set", name)
+                .register(meterRegistry);
+        Gauge.builder("idset.cardinality", set, RoaringIdSet::cardinality)
+                .description("Number of ids in an id set")
+                .tag("set", name)
+                .register(meterRegistry);
+        return set;
+    }
+
+    private static final class RoaringIdSet implements IdSet {
+
+        private final String name;
+        private final Timer rebuildTimer;
+        private final ReadWriteLock lock = new ReentrantReadWriteLock();
+        private final Object rebuildLock = new Object();
+
+        private Roaring64Bitmap ids = new Roaring64Bitmap();
+        /** Changes made while a rebuild scans its source, replayed onto the result; null otherwise. */
+        private Roaring64Bitmap addedDuringRebuild;
+        private Roaring64Bitmap removedDuringRebuild;
+
+        RoaringIdSet(String name, Timer rebuildTimer) {
+            this.name = name;
+            this.rebuildTimer = rebuildTimer;
+        }
+
+        @Override
+        public boolean contains(long id) {
+            lock.readLock().lock();
+            try {
+                return ids.contains(id);
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        @Override
+        public void add(long id) {
+            lock.writeLock().lock();
+            try {
+                ids.addLong(id);
+                if (addedDuringRebuild != null) {
+                    addedDuringRebuild.addLong(id);
+                    removedDuringRebuild.removeLong(id);
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        @Override
+        public void remove(long id) {
+            lock.writeLock().lock();
+            try {
+                ids.removeLong(id);
+                if (removedDuringRebuild != null) {
+                    removedDuringRebuild.addLong(id);
+                    addedDuringRebuild.removeLong(id);
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        @Override
+        public void rebuild(Consumer<LongConsumer> source) {
+            synchronized (rebuildLock) {
+                long startedAt = System.nanoTime();
+                lock.writeLock().lock();
+                try {
+                    addedDuringRebuild = new Roaring64Bitmap();
+                    removedDuringRebuild = new Roaring64Bitmap();
+                } finally {
+                    lock.writeLock().unlock();
+                }
+
+                Roaring64Bitmap rebuilt = new Roaring64Bitmap();
+                try {
+                    // Scanned without the lock; readers and writers keep using the current bitmap
+                    source.accept(rebuilt::addLong);
+                    lock.writeLock().lock();
+                    try {
+                        rebuilt.or(addedDuringRebuild);
+                        rebuilt.andNot(removedDuringRebuild);
+                        rebuilt.runOptimize();
+                        ids = rebuilt;
+                    } finally {
+                        lock.writeLock().unlock();
+                    }
+                } finally {
+                    lock.writeLock().lock();
+                    try {
+                        addedDuringRebuild = null;
+                        removedDuringRebuild = null;
+                    } finally {
+                        lock.writeLock().unlock();
+                    }
+                }
+
+                long elapsed = System.nanoTime() - startedAt;
+                if (rebuildTimer != null) {
+                    rebuildTimer.record(elapsed, TimeUnit.NANOSECONDS);
+                }
+                log.info("Rebuilt id set {} with {} ids ({} bytes) in {} ms",
+                        name, cardinality(), sizeInBytes(), elapsed / 1_000_000);
+            }
+        }
+
+        long cardinality() {
+            lock.readLock().lock();
+            try {
+                return ids.getLongCardinality();
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        long sizeInBytes() {
+            lock.readLock().lock();
+            try {
+                return ids.getLongSizeInBytes();
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package kr.co.jparangdev.transients.lock;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * In-JVM reentrant locks per key. A key's lock is created on first use and dropped once
+ * no thread holds or waits for it, so the map only ever holds keys in use.
+ */
+final class KeyedLocks {
+
+    private final ConcurrentHashMap<String, KeyLock> locks = new ConcurrentHashMap<>();
+
+    /**
+     * Takes the key's lock, waiting at most the given time.
+     */
+    boolean tryLock(String key, long timeout, TimeUnit unit) throws InterruptedException {
+        KeyLock keyLock = retain(key);
+        boolean locked = false;
+        try {
+            locked = keyLock.lock.tryLock(timeout, unit);
+            return locked;
+        } finally {
+            if (!locked) {
+                release(key);
+            }
+        }
+    }
+
+    /**
+     * Releases one hold of the key's lock if the calling thread has it.
+     *
+     * @return whether a hold was released
+     */
+    boolean unlock(String key) {
+        KeyLock keyLock = locks.get(key);
+        if (keyLock == null || !keyLock.lock.isHeldByCurrentThread()) {
+            return false;
+        }
+        keyLock.lock.unlock();
+        release(key);
+        return true;
+    }
+
+    /**
+     * Number of keys whose lock is held or waited for.
+     */
+    int size() {
+        return locks.size();
+    }
+
+    /**
+     * Registers the calling thread as a user of the key's lock, creating it if needed.
+     */
+    private KeyLock retain(String key) {
+        return locks.compute(key, (k, existing) -> {
+            KeyLock keyLock = existing != null ? existing : new KeyLock();
+            keyLock.references++;
+            return keyLock;
+        });
+    }
+
+    /**
+     * Undoes one {@link #retain}, dropping the lock once nothing holds or waits for it.
+     */
+    private void release(String key) {
+        locks.computeIfPresent(key, (k, keyLock) -> --keyLock.references == 0 ? null : keyLock);
+    }
+
+    private static final class KeyLock {
+        private final ReentrantLock lock = new ReentrantLock();
+        /** Threads holding or waiting for the lock, counting reentrant holds; guarded by the map. */
+        private int references;
+    }
+}
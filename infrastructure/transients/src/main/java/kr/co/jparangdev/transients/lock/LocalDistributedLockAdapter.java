@@ -0,0 +1,66 @@
+package kr.co.jparangdev.transients.lock;
+
+import kr.co.jparangdev.application.common.port.DistributedLockPort;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * In-process implementation of the DistributedLockPort interface for single-node
+ * deployments ({@code transients.cache.type=mapped}), where there is no Redis and no
+ * other node to coordinate with.
+ * <p>
+ * Locks are reentrant per key and held until {@link #unlock}; the lease time is not
+ * enforced, since a holder cannot outlive the process whose threads the lock excludes.
+ */
+@Component
+@ConditionalOnProperty(prefix = "transients.cache", name = "type", havingValue = "mapped")
+public class LocalDistributedLockAdapter implements DistributedLockPort {
+
+    private final KeyedLocks locks = new KeyedLocks();
+
+    @Override
+    public boolean tryLock(String lockKey, Duration waitTime, Duration leaseTime) {
+        try {
+            return locks.tryLock(lockKey, waitTime.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    @Override
+    public void unlock(String lockKey) {
+        locks.unlock(lockKey);
+    }
+
+    @Override
+    public <T> T executeWithLock(String lockKey, Duration waitTime, Duration leaseTime, Supplier<T> task) {
+        boolean acquired = false;
+        try {
+            acquired = locks.tryLock(lockKey, waitTime.toNanos(), TimeUnit.NANOSECONDS);
+            if (!acquired) {
+                throw new LockAcquisitionException(lockKey);
+            }
+            return task.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new LockAcquisitionException(lockKey, e);
+        } finally {
+            if (acquired) {
+                locks.unlock(lockKey);
+            }
+        }
+    }
+
+    @Override
+    public void executeWithLock(String lockKey, Duration waitTime, Duration leaseTime, Runnable task) {
+        executeWithLock(lockKey, waitTime, leaseTime, () -> {
+            task.run();
+            return null;
+        });
+    }
+}
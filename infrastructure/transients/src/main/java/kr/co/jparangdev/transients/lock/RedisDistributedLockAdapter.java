@@ -3,6 +3,7 @@ package kr.co.jparangdev.transients.lock;
 import kr.co.jparangdev.application.common.port.DistributedLockPort;
 import org.redisson.api.RLock;
 import org.redisson.api.RedissonClient;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 
 import java.time.Duration;
@@ -12,13 +13,23 @@ import java.util.function.Supplier;
 /**
  * Redisson implementation of the DistributedLockPort interface.
  * Provides distributed locking capabilities using Redis.
+ * <p>
+ * Acquisition is two-level: a thread first takes an in-JVM lock for the key and only then
+ * competes for the Redis lock, so at most one thread per node polls or subscribes in Redis
+ * for a given key. Local locks are created per key and dropped once no thread holds or
+ * waits for them. Both levels share the caller's wait time.
+ * <p>
+ * Only active with the Redis cache backend; {@link LocalDistributedLockAdapter} replaces it
+ * in single-node deployments without Redis.
  */
 @Component
+@ConditionalOnProperty(prefix = "transients.cache", name = "type", havingValue = "redis", matchIfMissing = true)
 public class RedisDistributedLockAdapter implements DistributedLockPort {
 
     private static final String LOCK_PREFIX = "lock:";
 
     private final RedissonClient redissonClient;
+    private final KeyedLocks localLocks = new KeyedLocks();
 
     public RedisDistributedLockAdapter(RedissonClient redissonClient) {
         this.redissonClient = redissonClient;
@@ -26,29 +37,35 @@ public class RedisDistributedLockAdapter implements DistributedLockPort {
 
     @Override
     public boolean tryLock(String lockKey, Duration waitTime, Duration leaseTime) {
-        RLock lock = redissonClient.getLock(LOCK_PREFIX + lockKey);
         try {
-            return lock.tryLock(waitTime.toMillis(), leaseTime.toMillis(), TimeUnit.MILLISECONDS);
+            return acquire(lockKey, waitTime, leaseTime);
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
             return false;
         }
     }
 
+    /**
+     * Releases the Redis lock, then the local one. The local lock is released even when the
+     * Redis unlock fails, e.g. because the lease expired, so other threads are not stranded.
+     */
     @Override
     public void unlock(String lockKey) {
-        RLock lock = redissonClient.getLock(LOCK_PREFIX + lockKey);
-        if (lock.isHeldByCurrentThread()) {
-            lock.unlock();
+        try {
+            RLock lock = redissonClient.getLock(LOCK_PREFIX + lockKey);
+            if (lock.isHeldByCurrentThread()) {
+                lock.unlock();
+            }
+        } finally {
+            localLocks.unlock(lockKey);
         }
     }
 
     @Override
     public <T> T executeWithLock(String lockKey, Duration waitTime, Duration leaseTime, Supplier<T> task) {
-        RLock lock = redissonClient.getLock(LOCK_PREFIX + lockKey);
         boolean acquired = false;
         try {
-            acquired = lock.tryLock(waitTime.toMillis(), leaseTime.toMillis(), TimeUnit.MILLISECONDS);
+            acquired = acquire(lockKey, waitTime, leaseTime);
             if (!acquired) {
                 throw new LockAcquisitionException(lockKey);
             }
@@ -57,8 +74,8 @@ public class RedisDistributedLockAdapter implements DistributedLockPort {
             Thread.currentThread().interrupt();
             throw new LockAcquisitionException(lockKey, e);
         } finally {
-            if (acquired && lock.isHeldByCurrentThread()) {
-                lock.unlock();
+            if (acquired) {
+                unlock(lockKey);
             }
         }
     }
@@ -70,4 +87,26 @@ public class RedisDistributedLockAdapter implements DistributedLockPort {
             return null;
         });
     }
+
+    /**
+     * Takes the local lock, then the Redis lock with whatever wait time is left.
+     * Leaves neither held when it returns false or throws.
+     */
+    private boolean acquire(String lockKey, Duration waitTime, Duration leaseTime) throws InterruptedException {
+        long deadline = System.nanoTime() + waitTime.toNanos();
+        if (!localLocks.tryLock(lockKey, waitTime.toNanos(), TimeUnit.NANOSECONDS)) {
+            return false;
+        }
+        boolean acquired = false;
+        try {
+            long remainingMillis = TimeUnit.NANOSECONDS.toMillis(Math.max(0, deadline - System.nanoTime()));
+            RLock lock = redissonClient.getLock(LOCK_PREFIX + lockKey);
+            acquired = lock.tryLock(remainingMillis, leaseTime.toMillis(), TimeUnit.MILLISECONDS);
+            return acquired;
+        } finally {
+            if (!acquired) {
+                localLocks.unlock(lockKey);
+            }
+        }
+    }
 }
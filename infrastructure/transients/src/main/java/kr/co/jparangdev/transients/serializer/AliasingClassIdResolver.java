@@ -0,0 +1,53 @@
+package kr.co.jparangdev.transients.serializer;
+
+import com.fasterxml.jackson.databind.DatabindContext;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.jsontype.PolymorphicTypeValidator;
+import com.fasterxml.jackson.databind.jsontype.impl.ClassNameIdResolver;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Writes registered classes as short aliases instead of their fully-qualified name and
+ * falls back to the class name for everything else.
+ * Aliases start with {@code #}, which no class name can, so the two never collide.
+ */
+public class AliasingClassIdResolver extends ClassNameIdResolver {
+
+    private final Map<Class<?>, String> aliases;
+    private final Map<String, Class<?>> classes = new HashMap<>();
+
+    public AliasingClassIdResolver(Map<Class<?>, String> aliases, PolymorphicTypeValidator validator) {
+        super(TypeFactory.defaultInstance().constructType(Object.class), TypeFactory.defaultInstance(), validator);
+        this.aliases = Map.copyOf(aliases);
+        aliases.forEach((type, alias) -> {
+            if (!alias.startsWith("#")) {
+                throw new IllegalArgumentException("Type alias must start with '#': " + alias);
+            }
+            if (classes.put(alias, type) != null) {
+                throw new IllegalArgumentException("Duplicate type alias: " + alias);
+            }
+        });
+    }
+
+    @Override
+    public String idFromValue(Object value) {
+        String alias = aliases.get(value.getClass());
+        return alias != null ? alias : super.idFromValue(value);
+    }
+
+    @Override
+    public String idFromValueAndType(Object value, Class<?> type) {
+        String alias = aliases.get(type);
+        return alias != null ? alias : super.idFromValueAndType(value, type);
+    }
+
+    @Override
+    public JavaType typeFromId(DatabindContext context, String id) throws IOException {
+        Class<?> type = classes.get(id);
+        return type != null ? context.constructType(type) : super.typeFromId(context, id);
+    }
+}
@@ -0,0 +1,141 @@
+package kr.co.jparangdev.transients.serializer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Binary value serializer for the Redis cache.
+ * <p>
+ * Payloads are {@code [magic][version][flags][body]}, where the body is Smile written by the
+ * given mapper and is Deflate-compressed when it exceeds the compression threshold.
+ * Values without the magic byte are handed to the fallback serializer, so entries written by
+ * nodes still on JSON stay readable during a rolling upgrade. Payloads from a newer format
+ * version read as absent and are recomputed.
+ * <p>
+ * With compact writes disabled, values are written by the fallback serializer while both
+ * formats are still read. That makes the rollout two-phase: every node first runs in this
+ * read-both mode, then nodes switch to writing the compact format.
+ */
+public class CompactRedisSerializer implements RedisSerializer<Object> {
+
+    /** Never the first byte of a JSON document, so the two formats can share a keyspace. */
+    static final byte MAGIC = (byte) 0xC5;
+    static final byte FORMAT_VERSION = 1;
+    private static final int HEADER_LENGTH = 3;
+    private static final byte FLAG_DEFLATE = 0x01;
+
+    private final ObjectMapper mapper;
+    private final RedisSerializer<Object> fallback;
+    private final int compressionThreshold;
+    private final boolean writeCompact;
+
+    public CompactRedisSerializer(ObjectMapper mapper, RedisSerializer<Object> fallback, int compressionThreshold,
+            boolean writeCompact) {
+        this.mapper = mapper;
+        this.fallback = fallback;
+        this.compressionThreshold = compressionThreshold;
+        this.writeCompact = writeCompact;
+    }
+
+    @Override
+    public byte[] serialize(Object value) throws SerializationException {
+        if (!writeCompact) {
+            return fallback.serialize(value);
+        }
+        if (value == null) {
+            return new byte[0];
+        }
+
+        byte[] body;
+        try {
+            body = mapper.writerFor(Object.class).writeValueAsBytes(value);
+        } catch (IOException e) {
+            throw new SerializationException("Could not write cache value: " + e.getMessage(), e);
+        }
+
+        byte flags = 0;
+        if (body.length > compressionThreshold) {
+            byte[] compressed = deflate(body);
+            // Already-dense bodies can grow when deflated, keep whichever is smaller
+            if (compressed.length < body.length) {
+                body = compressed;
+                flags |= FLAG_DEFLATE;
+            }
+        }
+
+        byte[] payload = new byte[HEADER_LENGTH + body.length];
+        payload[0] = MAGIC;
+        payload[1] = FORMAT_VERSION;
+        payload[2] = flags;
+        System.arraycopy(body, 0, payload, HEADER_LENGTH, body.length);
+        return payload;
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        if (bytes[0] != MAGIC) {
+            return fallback.deserialize(bytes);
+        }
+        if (bytes.length < HEADER_LENGTH || bytes[1] != FORMAT_VERSION) {
+            return null;
+        }
+
+        byte[] body = Arrays.copyOfRange(bytes, HEADER_LENGTH, bytes.length);
+        if ((bytes[2] & FLAG_DEFLATE) != 0) {
+            body = inflate(body);
+        }
+        try {
+            return mapper.readValue(body, Object.class);
+        } catch (IOException e) {
+            throw new SerializationException("Could not read cache value: " + e.getMessage(), e);
+        }
+    }
+
+    private static byte[] deflate(byte[] input) {
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            deflater.setInput(input);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(input.length / 2);
+            byte[] buffer = new byte[4096];
+            while (!deflater.finished()) {
+                out.write(buffer, 0, deflater.deflate(buffer));
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static byte[] inflate(byte[] input) {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(input);
+            ByteArrayOutputStream out = new ByteArrayOutputStream(input.length * 3);
+            byte[] buffer = new byte[4096];
+            while (!inflater.finished()) {
+                int read = inflater.inflate(buffer);
+                if (read == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new SerializationException("Truncated compressed cache value");
+                }
+                out.write(buffer, 0, read);
+            }
+            return out.toByteArray();
+        } catch (DataFormatException e) {
+            throw new SerializationException("Corrupt compressed cache value: " + e.getMessage(), e);
+        } finally {
+            inflater.end();
+        }
+    }
+}
@@ -0,0 +1,195 @@
+package kr.co.jparangdev.transients.cache;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MappedSegmentTest {
+
+    private static final int SEGMENT_SIZE = 1024 * 1024;
+    /** Mirrors the segment's index sizing of one slot per 256 bytes, rounded down to a power of two. */
+    private static final int INDEX_MASK = Integer.highestOneBit(SEGMENT_SIZE / 256) - 1;
+    private static final long NEVER = Long.MAX_VALUE;
+    private static final byte[] NO_TAGS = new byte[0];
+
+    @TempDir
+    Path directory;
+
+    private final List<MappedSegment> opened = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() throws IOException {
+        for (MappedSegment segment : opened) {
+            segment.close();
+        }
+    }
+
+    @Test
+    void storesReplacesAndRemovesValues() throws IOException {
+        MappedSegment segment = open("segment");
+
+        assertThat(put(segment, "post:1", "first")).isTrue();
+        assertThat(get(segment, "post:1")).isEqualTo("first");
+
+        put(segment, "post:1", "second");
+        assertThat(get(segment, "post:1")).isEqualTo("second");
+
+        assertThat(segment.remove(hash("post:1"), bytes("post:1"))).isTrue();
+        assertThat(get(segment, "post:1")).isNull();
+        assertThat(segment.remove(hash("post:1"), bytes("post:1"))).isFalse();
+    }
+
+    @Test
+    void removalKeepsTheRestOfAProbeRunReachable() throws IOException {
+        MappedSegment segment = open("segment");
+        // Three keys competing for one slot, then one whose own slot the run has spilled into
+        List<String> colliding = keysWithSlot(3, 100);
+        String neighbour = keysWithSlot(1, 101).get(0);
+        colliding.forEach(key -> put(segment, key, "value of " + key));
+        put(segment, neighbour, "value of " + neighbour);
+
+        segment.remove(hash(colliding.get(0)), bytes(colliding.get(0)));
+        assertThat(get(segment, colliding.get(1))).isEqualTo("value of " + colliding.get(1));
+        assertThat(get(segment, colliding.get(2))).isEqualTo("value of " + colliding.get(2));
+        assertThat(get(segment, neighbour)).isEqualTo("value of " + neighbour);
+
+        segment.remove(hash(colliding.get(2)), bytes(colliding.get(2)));
+        assertThat(get(segment, colliding.get(1))).isEqualTo("value of " + colliding.get(1));
+        assertThat(get(segment, neighbour)).isEqualTo("value of " + neighbour);
+        assertThat(get(segment, colliding.get(0))).isNull();
+        assertThat(get(segment, colliding.get(2))).isNull();
+    }
+
+    @Test
+    void wrappingTheLogNeverReturnsAnotherKeysValue() throws IOException {
+        MappedSegment segment = open("segment");
+        Random random = new Random(42);
+        Map<String, String> written = new HashMap<>();
+
+        // Several passes over the log with sizes that rarely fit the space left before its end
+        for (int i = 0; i < 5_000; i++) {
+            String key = "key:" + random.nextInt(2_000);
+            String value = key + ":" + i + ":" + "x".repeat(100 + random.nextInt(2_000));
+            assertThat(put(segment, key, value)).isTrue();
+            written.put(key, value);
+            assertThat(get(segment, key)).isEqualTo(value);
+        }
+
+        int present = 0;
+        for (Map.Entry<String, String> entry : written.entrySet()) {
+            String value = get(segment, entry.getKey());
+            if (value != null) {
+                assertThat(value).isEqualTo(entry.getValue());
+                present++;
+            }
+        }
+        assertThat(present).isPositive();
+    }
+
+    @Test
+    void recentlyReadEntrySurvivesReclaimingWhileUnreadOnesAreDropped() throws IOException {
+        MappedSegment segment = open("segment");
+        String filler = "x".repeat(1_000);
+        put(segment, "hot", "hot value");
+        put(segment, "cold", "cold value");
+
+        // About 1.5 MB through a segment of just under 1 MB, reading the hot key along the way
+        for (int i = 0; i < 1_500; i++) {
+            put(segment, "filler:" + i, filler);
+            if (i % 100 == 0) {
+                assertThat(get(segment, "hot")).isEqualTo("hot value");
+            }
+        }
+
+        assertThat(get(segment, "hot")).isEqualTo("hot value");
+        assertThat(get(segment, "cold")).isNull();
+        assertThat(get(segment, "filler:0")).isNull();
+        assertThat(get(segment, "filler:1499")).isEqualTo(filler);
+    }
+
+    @Test
+    void expiredEntriesReadAsAbsent() throws IOException {
+        MappedSegment segment = open("segment");
+        segment.put(hash("post:1"), bytes("post:1"), NO_TAGS, bytes("value"), 1_000);
+
+        assertThat(segment.ttlMillis(hash("post:1"), bytes("post:1"), 400)).isEqualTo(600);
+        assertThat(segment.get(hash("post:1"), bytes("post:1"), 1_000)).isNull();
+        assertThat(segment.ttlMillis(hash("post:1"), bytes("post:1"), 1_000)).isEqualTo(-1);
+    }
+
+    @Test
+    void removesEntriesWhoseTagsMatch() throws IOException {
+        MappedSegment segment = open("segment");
+        segment.put(hash("post:1"), bytes("post:1"), bytes("posts"), bytes("a"), NEVER);
+        segment.put(hash("post:2"), bytes("post:2"), bytes("posts"), bytes("b"), NEVER);
+        segment.put(hash("user:1"), bytes("user:1"), bytes("users"), bytes("c"), NEVER);
+
+        assertThat(segment.removeIf((key, tags) -> tags.contains("posts"))).isEqualTo(2);
+
+        assertThat(get(segment, "post:1")).isNull();
+        assertThat(get(segment, "post:2")).isNull();
+        assertThat(get(segment, "user:1")).isEqualTo("c");
+    }
+
+    @Test
+    void reusesACleanlyClosedFileAndReformatsOneThatWasNot() throws IOException {
+        MappedSegment closed = new MappedSegment(directory.resolve("closed"), SEGMENT_SIZE);
+        put(closed, "post:1", "kept");
+        closed.close();
+
+        MappedSegment crashed = new MappedSegment(directory.resolve("crashed"), SEGMENT_SIZE);
+        put(crashed, "post:1", "lost");
+        // No close(): the file is still marked as in use, as after a crash
+
+        assertThat(get(open("closed"), "post:1")).isEqualTo("kept");
+        assertThat(get(open("crashed"), "post:1")).isNull();
+    }
+
+    private MappedSegment open(String name) throws IOException {
+        MappedSegment segment = new MappedSegment(directory.resolve(name), SEGMENT_SIZE);
+        opened.add(segment);
+        return segment;
+    }
+
+    /**
+     * Finds keys whose real hash lands on the given index slot, as reclaiming recomputes it from the key.
+     */
+    private static List<String> keysWithSlot(int count, int slot) {
+        List<String> keys = new ArrayList<>();
+        for (int i = 0; keys.size() < count; i++) {
+            String key = "probe:" + slot + ":" + i;
+            if (((int) hash(key) & INDEX_MASK) == slot) {
+                keys.add(key);
+            }
+        }
+        return keys;
+    }
+
+    private static boolean put(MappedSegment segment, String key, String value) {
+        return segment.put(hash(key), bytes(key), NO_TAGS, bytes(value), NEVER);
+    }
+
+    private static String get(MappedSegment segment, String key) {
+        byte[] value = segment.get(hash(key), bytes(key), System.currentTimeMillis());
+        return value != null ? new String(value, StandardCharsets.UTF_8) : null;
+    }
+
+    private static long hash(String key) {
+        return MappedFileCacheAdapter.hash(bytes(key));
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,117 @@
+package kr.co.jparangdev.transients.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class NearCacheAdapterTest {
+
+    private RedisCacheAdapter redisCache;
+    private StringRedisTemplate stringRedisTemplate;
+    private NearCacheAdapter nearCache;
+
+    @BeforeEach
+    void setUp() {
+        redisCache = mock(RedisCacheAdapter.class);
+        stringRedisTemplate = mock(StringRedisTemplate.class);
+        nearCache = newAdapter(redisCache, stringRedisTemplate);
+    }
+
+    @Test
+    void servesRepeatedReadsFromTheLocalCache() {
+        when(redisCache.getWithTtl("post:1", String.class)).thenReturn(entry("v1"));
+
+        assertThat(nearCache.get("post:1", String.class)).contains("v1");
+        assertThat(nearCache.get("post:1", String.class)).contains("v1");
+
+        verify(redisCache, times(1)).getWithTtl("post:1", String.class);
+        assertThat(nearCache.stats().getL1Hits()).isEqualTo(1);
+    }
+
+    @Test
+    void dropsAFillThatRacedWithARemoteInvalidation() {
+        // Another node writes and invalidates while this node's Redis read is in flight
+        when(redisCache.getWithTtl("post:1", String.class)).thenAnswer(invocation -> {
+            nearCache.onMessage(message("other-node\nK\npost:1"), null);
+            return entry("stale");
+        }).thenReturn(entry("fresh"));
+
+        assertThat(nearCache.get("post:1", String.class)).contains("stale");
+        assertThat(nearCache.get("post:1", String.class)).contains("fresh");
+
+        verify(redisCache, times(2)).getWithTtl("post:1", String.class);
+    }
+
+    @Test
+    void dropsAFillThatRacedWithALocalPatternEviction() {
+        when(redisCache.getWithTtl("post:1", String.class)).thenAnswer(invocation -> {
+            nearCache.evictByPattern("post:*");
+            return entry("stale");
+        }).thenReturn(entry("fresh"));
+
+        nearCache.get("post:1", String.class);
+
+        assertThat(nearCache.get("post:1", String.class)).contains("fresh");
+    }
+
+    @Test
+    void invalidatesKeysContainingNewlinesAndBackslashesOnOtherNodes() {
+        String oddKey = "post:a\nb\\n";
+        RedisCacheAdapter otherRedisCache = mock(RedisCacheAdapter.class);
+        NearCacheAdapter otherNode = newAdapter(otherRedisCache, mock(StringRedisTemplate.class));
+        for (String key : List.of(oddKey, "post:a", "b\\n")) {
+            when(otherRedisCache.getWithTtl(key, String.class)).thenReturn(entry("cached"));
+            otherNode.get(key, String.class);
+        }
+
+        nearCache.evict(oddKey);
+        ArgumentCaptor<String> published = ArgumentCaptor.forClass(String.class);
+        verify(stringRedisTemplate).convertAndSend(eq(NearCacheAdapter.INVALIDATION_CHANNEL), published.capture());
+        assertThat(published.getValue().split("\n")).hasSize(3);
+        otherNode.onMessage(message(published.getValue()), null);
+
+        for (String key : List.of(oddKey, "post:a", "b\\n")) {
+            otherNode.get(key, String.class);
+        }
+        verify(otherRedisCache, times(2)).getWithTtl(oddKey, String.class);
+        verify(otherRedisCache, times(1)).getWithTtl("post:a", String.class);
+        verify(otherRedisCache, times(1)).getWithTtl("b\\n", String.class);
+    }
+
+    @Test
+    void escapingRoundTrips() {
+        for (String item : List.of("plain", "a\nb", "trailing\\", "\\n", "mixed\\\n\\\\")) {
+            String escaped = NearCacheAdapter.escape(item);
+            assertThat(escaped).doesNotContain("\n");
+            assertThat(NearCacheAdapter.unescape(escaped)).isEqualTo(item);
+        }
+    }
+
+    private static NearCacheAdapter newAdapter(RedisCacheAdapter redisCache, StringRedisTemplate stringRedisTemplate) {
+        return new NearCacheAdapter(redisCache, stringRedisTemplate, 1024 * 1024, Duration.ofMinutes(1), List.of());
+    }
+
+    private static Optional<CachedEntry<String>> entry(String value) {
+        return Optional.of(new CachedEntry<>(value, Duration.ofMinutes(5), value.length()));
+    }
+
+    private static Message message(String body) {
+        return new DefaultMessage(NearCacheAdapter.INVALIDATION_CHANNEL.getBytes(StandardCharsets.UTF_8),
+                body.getBytes(StandardCharsets.UTF_8));
+    }
+}
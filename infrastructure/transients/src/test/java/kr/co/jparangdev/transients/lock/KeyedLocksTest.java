@@ -0,0 +1,88 @@
+package kr.co.jparangdev.transients.lock;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class KeyedLocksTest {
+
+    private final KeyedLocks locks = new KeyedLocks();
+
+    @Test
+    void dropsTheKeyOnceEveryReentrantHoldIsReleased() throws Exception {
+        assertThat(locks.tryLock("post:1", 0, TimeUnit.MILLISECONDS)).isTrue();
+        assertThat(locks.tryLock("post:1", 0, TimeUnit.MILLISECONDS)).isTrue();
+        assertThat(locks.size()).isEqualTo(1);
+
+        assertThat(locks.unlock("post:1")).isTrue();
+        assertThat(onAnotherThread(() -> locks.tryLock("post:1", 0, TimeUnit.MILLISECONDS))).isFalse();
+        assertThat(locks.size()).isEqualTo(1);
+
+        assertThat(locks.unlock("post:1")).isTrue();
+        assertThat(locks.size()).isZero();
+    }
+
+    @Test
+    void waiterThatTimesOutLeavesNoReferenceBehind() throws Exception {
+        locks.tryLock("post:1", 0, TimeUnit.MILLISECONDS);
+
+        assertThat(onAnotherThread(() -> locks.tryLock("post:1", 50, TimeUnit.MILLISECONDS))).isFalse();
+        assertThat(locks.size()).isEqualTo(1);
+
+        locks.unlock("post:1");
+        assertThat(locks.size()).isZero();
+    }
+
+    @Test
+    void unlockByAThreadWithoutAHoldChangesNothing() throws Exception {
+        locks.tryLock("post:1", 0, TimeUnit.MILLISECONDS);
+
+        assertThat(onAnotherThread(() -> locks.unlock("post:1"))).isFalse();
+        assertThat(locks.unlock("post:2")).isFalse();
+        assertThat(locks.size()).isEqualTo(1);
+
+        assertThat(locks.unlock("post:1")).isTrue();
+        assertThat(locks.size()).isZero();
+    }
+
+    @Test
+    void excludesConcurrentHoldersAndEndsEmpty() throws Exception {
+        int[] counter = new int[1];
+        List<FutureTask<Boolean>> tasks = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            FutureTask<Boolean> task = new FutureTask<>(() -> {
+                for (int j = 0; j < 1_000; j++) {
+                    if (!locks.tryLock("post:1", 5, TimeUnit.SECONDS)) {
+                        return false;
+                    }
+                    try {
+                        counter[0]++;
+                    } finally {
+                        locks.unlock("post:1");
+                    }
+                }
+                return true;
+            });
+            tasks.add(task);
+            new Thread(task).start();
+        }
+        for (FutureTask<Boolean> task : tasks) {
+            assertThat(task.get(30, TimeUnit.SECONDS)).isTrue();
+        }
+
+        assertThat(counter[0]).isEqualTo(8_000);
+        assertThat(locks.size()).isZero();
+    }
+
+    private static <T> T onAnotherThread(Callable<T> callable) throws Exception {
+        FutureTask<T> task = new FutureTask<>(callable);
+        new Thread(task).start();
+        return task.get(5, TimeUnit.SECONDS);
+    }
+}
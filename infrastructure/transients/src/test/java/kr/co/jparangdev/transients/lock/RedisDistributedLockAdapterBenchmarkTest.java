@@ -0,0 +1,151 @@
+package kr.co.jparangdev.transients.lock;
+
+import org.junit.jupiter.api.Test;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Redis lock traffic with 500 threads contending on 10 keys, going straight to the Redis lock
+ * against going through the adapter's local lock first. Redis is simulated in process; the
+ * numbers that matter are how many acquisitions reach it and how many threads wait in it for
+ * one key at once, as each such waiter holds a subscription and retries in a real Redis.
+ */
+class RedisDistributedLockAdapterBenchmarkTest {
+
+    private static final int THREADS = 500;
+    private static final int KEYS = 10;
+    private static final int ACQUISITIONS_PER_THREAD = 20;
+    private static final Duration WAIT = Duration.ofMinutes(1);
+    private static final Duration LEASE = Duration.ofMinutes(1);
+
+    @Test
+    void redisWaitersPerKeyScaleWithNodesNotThreads() throws Exception {
+        FakeRedis direct = new FakeRedis();
+        long directMillis = run(THREADS, (thread, key, task) -> {
+            RLock lock = direct.client.getLock("lock:" + key);
+            if (!lock.tryLock(WAIT.toMillis(), LEASE.toMillis(), TimeUnit.MILLISECONDS)) {
+                throw new IllegalStateException("Timed out on " + key);
+            }
+            try {
+                task.run();
+            } finally {
+                lock.unlock();
+            }
+        });
+
+        FakeRedis shared = new FakeRedis();
+        List<RedisDistributedLockAdapter> nodes = List.of(
+                new RedisDistributedLockAdapter(shared.client), new RedisDistributedLockAdapter(shared.client));
+        long twoLevelMillis = run(THREADS, (thread, key, task) ->
+                nodes.get(thread % nodes.size()).executeWithLock(key, WAIT, LEASE, task));
+
+        System.out.printf("%d threads, %d keys, %d acquisitions%n", THREADS, KEYS, THREADS * ACQUISITIONS_PER_THREAD);
+        System.out.printf("redis only        | %5d tryLock calls, max %3d waiting per key, %5d ms%n",
+                direct.tryLockCalls.sum(), direct.maxWaiters.get(), directMillis);
+        System.out.printf("local, then redis | %5d tryLock calls, max %3d waiting per key, %5d ms (%d nodes)%n",
+                shared.tryLockCalls.sum(), shared.maxWaiters.get(), twoLevelMillis, nodes.size());
+
+        assertThat(shared.tryLockCalls.sum()).isEqualTo(THREADS * ACQUISITIONS_PER_THREAD);
+        assertThat(shared.maxWaiters.get()).isLessThanOrEqualTo(nodes.size());
+        assertThat(direct.maxWaiters.get()).isGreaterThan(nodes.size());
+    }
+
+    /**
+     * Runs every thread's acquisitions, checking that no two holders of a key ever overlap.
+     */
+    private static long run(int threads, Acquirer acquirer) throws Exception {
+        Map<String, AtomicInteger> holders = new ConcurrentHashMap<>();
+        CountDownLatch start = new CountDownLatch(1);
+        List<FutureTask<Void>> tasks = new ArrayList<>(threads);
+        for (int t = 0; t < threads; t++) {
+            int thread = t;
+            FutureTask<Void> task = new FutureTask<>(() -> {
+                start.await();
+                for (int i = 0; i < ACQUISITIONS_PER_THREAD; i++) {
+                    String key = "key:" + (thread + i) % KEYS;
+                    AtomicInteger keyHolders = holders.computeIfAbsent(key, k -> new AtomicInteger());
+                    acquirer.acquire(thread, key, () -> {
+                        assertThat(keyHolders.incrementAndGet()).isOne();
+                        keyHolders.decrementAndGet();
+                    });
+                }
+                return null;
+            });
+            tasks.add(task);
+            new Thread(task).start();
+        }
+
+        long startedAt = System.nanoTime();
+        start.countDown();
+        for (FutureTask<Void> task : tasks) {
+            task.get(2, TimeUnit.MINUTES);
+        }
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+    }
+
+    @FunctionalInterface
+    private interface Acquirer {
+        void acquire(int thread, String key, Runnable task) throws Exception;
+    }
+
+    /**
+     * Redisson client whose locks are in-process reentrant locks, counting calls and waiters.
+     */
+    private static final class FakeRedis {
+
+        private final RedissonClient client = mock(RedissonClient.class);
+        private final Map<String, RLock> locks = new ConcurrentHashMap<>();
+        private final LongAdder tryLockCalls = new LongAdder();
+        private final AtomicInteger maxWaiters = new AtomicInteger();
+
+        FakeRedis() {
+            when(client.getLock(anyString()))
+                    .thenAnswer(invocation -> locks.computeIfAbsent(invocation.getArgument(0), name -> newLock()));
+        }
+
+        private RLock newLock() {
+            ReentrantLock backing = new ReentrantLock();
+            AtomicInteger waiters = new AtomicInteger();
+            RLock lock = mock(RLock.class);
+            try {
+                when(lock.tryLock(anyLong(), anyLong(), any())).thenAnswer(invocation -> {
+                    tryLockCalls.increment();
+                    maxWaiters.accumulateAndGet(waiters.incrementAndGet(), Math::max);
+                    try {
+                        return backing.tryLock(invocation.<Long>getArgument(0), invocation.getArgument(2));
+                    } finally {
+                        waiters.decrementAndGet();
+                    }
+                });
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+            when(lock.isHeldByCurrentThread()).thenAnswer(invocation -> backing.isHeldByCurrentThread());
+            doAnswer(invocation -> {
+                backing.unlock();
+                return null;
+            }).when(lock).unlock();
+            return lock;
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package kr.co.jparangdev.transients.lock;
+
+import kr.co.jparangdev.application.common.port.DistributedLockPort.LockAcquisitionException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class RedisDistributedLockAdapterTest {
+
+    private static final Duration LEASE = Duration.ofSeconds(10);
+
+    private RLock redisLock;
+    private RedisDistributedLockAdapter adapter;
+
+    @BeforeEach
+    void setUp() throws InterruptedException {
+        RedissonClient redissonClient = mock(RedissonClient.class);
+        redisLock = mock(RLock.class);
+        when(redissonClient.getLock("lock:post:1")).thenReturn(redisLock);
+        when(redisLock.tryLock(anyLong(), anyLong(), any())).thenReturn(true);
+        when(redisLock.isHeldByCurrentThread()).thenReturn(true);
+        adapter = new RedisDistributedLockAdapter(redissonClient);
+    }
+
+    @Test
+    void secondThreadOnTheSameNodeWaitsLocallyWithoutReachingRedis() throws Exception {
+        assertThat(adapter.tryLock("post:1", Duration.ZERO, LEASE)).isTrue();
+
+        FutureTask<Boolean> contender = new FutureTask<>(
+                () -> adapter.tryLock("post:1", Duration.ofMillis(50), LEASE));
+        new Thread(contender).start();
+
+        assertThat(contender.get(5, TimeUnit.SECONDS)).isFalse();
+        verify(redisLock, times(1)).tryLock(anyLong(), anyLong(), any());
+
+        adapter.unlock("post:1");
+        verify(redisLock).unlock();
+        assertThat(localLocks().size()).isZero();
+    }
+
+    @Test
+    void failedRedisAcquisitionReleasesTheLocalLock() throws Exception {
+        when(redisLock.tryLock(anyLong(), anyLong(), any())).thenReturn(false);
+
+        assertThat(adapter.tryLock("post:1", Duration.ZERO, LEASE)).isFalse();
+        assertThat(localLocks().size()).isZero();
+
+        when(redisLock.tryLock(anyLong(), anyLong(), any())).thenReturn(true);
+        FutureTask<Boolean> next = new FutureTask<>(() -> adapter.tryLock("post:1", Duration.ZERO, LEASE));
+        new Thread(next).start();
+        assertThat(next.get(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    void failedRedisUnlockStillReleasesTheLocalLock() throws Exception {
+        doThrow(new IllegalMonitorStateException("lease expired")).when(redisLock).unlock();
+        adapter.tryLock("post:1", Duration.ZERO, LEASE);
+
+        assertThatThrownBy(() -> adapter.unlock("post:1")).isInstanceOf(IllegalMonitorStateException.class);
+        assertThat(localLocks().size()).isZero();
+
+        FutureTask<Boolean> next = new FutureTask<>(() -> adapter.tryLock("post:1", Duration.ZERO, LEASE));
+        new Thread(next).start();
+        assertThat(next.get(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    void executeWithLockReleasesBothLevelsWhenTheTaskFails() {
+        assertThatThrownBy(() -> adapter.executeWithLock("post:1", Duration.ZERO, LEASE, (Runnable) () -> {
+            throw new IllegalStateException("task failed");
+        })).isInstanceOf(IllegalStateException.class);
+
+        verify(redisLock).unlock();
+        assertThat(localLocks().size()).isZero();
+    }
+
+    @Test
+    void executeWithLockFailsWithoutRunningTheTaskWhenRedisIsHeldElsewhere() throws InterruptedException {
+        when(redisLock.tryLock(anyLong(), anyLong(), any())).thenReturn(false);
+        Runnable task = mock(Runnable.class);
+
+        assertThatThrownBy(() -> adapter.executeWithLock("post:1", Duration.ZERO, LEASE, task))
+                .isInstanceOf(LockAcquisitionException.class);
+
+        verify(task, never()).run();
+        verify(redisLock, never()).unlock();
+        assertThat(localLocks().size()).isZero();
+    }
+
+    private KeyedLocks localLocks() {
+        return (KeyedLocks) ReflectionTestUtils.getField(adapter, "localLocks");
+    }
+}
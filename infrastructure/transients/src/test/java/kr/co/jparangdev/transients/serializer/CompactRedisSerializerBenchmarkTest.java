@@ -0,0 +1,93 @@
+package kr.co.jparangdev.transients.serializer;
+
+import kr.co.jparangdev.application.common.cache.CacheEntry;
+import kr.co.jparangdev.application.post.PostDto;
+import kr.co.jparangdev.transients.config.RedisConfig;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.unit.DataSize;
+
+import java.time.LocalDateTime;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Payload size and serialize/deserialize time of cached posts, compact against JSON.
+ * In-process and single-shot, so timings are indicative only; sizes are exact.
+ */
+class CompactRedisSerializerBenchmarkTest {
+
+    private static final int WARMUP_ITERATIONS = 2_000;
+    private static final int MEASURED_ITERATIONS = 5_000;
+    private static final String[] WORDS = {
+            "cache", "post", "comment", "the", "of", "and", "a", "replica", "latency", "request",
+            "server", "node", "value", "index", "redis", "to", "in", "is", "for", "with"};
+
+    private final RedisSerializer<Object> json = cacheValueSerializer("json");
+    private final RedisSerializer<Object> compact = cacheValueSerializer("compact");
+
+    @ParameterizedTest(name = "content of {0} chars")
+    @ValueSource(ints = {200, 2_000, 20_000})
+    void compactPayloadIsSmallerThanJson(int contentLength) {
+        CacheEntry entry = entry(text(contentLength));
+
+        Measurement jsonResult = measure(json, entry);
+        Measurement compactResult = measure(compact, entry);
+
+        System.out.printf("content %6d chars | json %6d B, %6d ns/op | compact %6d B, %6d ns/op%n",
+                contentLength, jsonResult.bytes(), jsonResult.nanosPerOp(),
+                compactResult.bytes(), compactResult.nanosPerOp());
+        assertThat(compactResult.bytes()).isLessThan(jsonResult.bytes());
+    }
+
+    /**
+     * One serialize and one deserialize per operation.
+     */
+    private static Measurement measure(RedisSerializer<Object> serializer, CacheEntry entry) {
+        int bytes = serializer.serialize(entry).length;
+        long sink = 0;
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            sink += roundTrip(serializer, entry);
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+            sink += roundTrip(serializer, entry);
+        }
+        long nanosPerOp = (System.nanoTime() - start) / MEASURED_ITERATIONS;
+        assertThat(sink).isPositive();
+        return new Measurement(bytes, nanosPerOp);
+    }
+
+    private static int roundTrip(RedisSerializer<Object> serializer, CacheEntry entry) {
+        CacheEntry read = (CacheEntry) serializer.deserialize(serializer.serialize(entry));
+        return read.getValue() != null ? 1 : 0;
+    }
+
+    private static String text(int length) {
+        Random random = new Random(length);
+        StringBuilder text = new StringBuilder(length + 16);
+        while (text.length() < length) {
+            text.append(WORDS[random.nextInt(WORDS.length)]).append(' ');
+        }
+        return text.substring(0, length);
+    }
+
+    private static CacheEntry entry(String content) {
+        LocalDateTime createdAt = LocalDateTime.of(2024, 1, 2, 3, 4, 5);
+        PostDto post = new PostDto(42L, "A title of typical length", content, 7L, createdAt, createdAt);
+        return new CacheEntry(post, 12, 1_700_000_000_000L);
+    }
+
+    private static RedisSerializer<Object> cacheValueSerializer(String serializer) {
+        RedisConfig redisConfig = new RedisConfig();
+        ReflectionTestUtils.setField(redisConfig, "serializer", serializer);
+        ReflectionTestUtils.setField(redisConfig, "compressionThreshold", DataSize.ofKilobytes(1));
+        return redisConfig.cacheValueSerializer();
+    }
+
+    private record Measurement(int bytes, long nanosPerOp) {
+    }
+}
@@ -0,0 +1,95 @@
+package kr.co.jparangdev.transients.serializer;
+
+import kr.co.jparangdev.application.common.cache.CacheEntry;
+import kr.co.jparangdev.application.post.PostDto;
+import kr.co.jparangdev.transients.config.RedisConfig;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CompactRedisSerializerTest {
+
+    private static final int COMPRESSION_THRESHOLD = 256;
+
+    private final RedisSerializer<Object> compact = cacheValueSerializer("compact");
+    private final RedisSerializer<Object> json = cacheValueSerializer("json");
+
+    @Test
+    void smallValueRoundTripsUncompressed() {
+        CacheEntry entry = entry("short content");
+
+        byte[] bytes = compact.serialize(entry);
+
+        assertThat(bytes[0]).isEqualTo(CompactRedisSerializer.MAGIC);
+        assertThat(bytes[1]).isEqualTo(CompactRedisSerializer.FORMAT_VERSION);
+        assertThat(bytes[2]).isZero();
+        assertThat(compact.deserialize(bytes)).usingRecursiveComparison().isEqualTo(entry);
+    }
+
+    @Test
+    void valueAboveTheThresholdIsDeflated() {
+        CacheEntry entry = entry("compressible ".repeat(1_000));
+
+        byte[] bytes = compact.serialize(entry);
+
+        assertThat(bytes[2]).isEqualTo((byte) 0x01);
+        assertThat(bytes.length).isLessThan(json.serialize(entry).length / 10);
+        assertThat(compact.deserialize(bytes)).usingRecursiveComparison().isEqualTo(entry);
+    }
+
+    @Test
+    void writesTypeAliasesInsteadOfClassNames() {
+        String payload = new String(compact.serialize(entry("short content")), StandardCharsets.ISO_8859_1);
+
+        assertThat(payload).contains("#entry", "#post").doesNotContain("kr.co.jparangdev");
+    }
+
+    @Test
+    void readsValuesWrittenAsJson() {
+        CacheEntry entry = entry("written by a node still on json");
+
+        assertThat(compact.deserialize(json.serialize(entry))).usingRecursiveComparison().isEqualTo(entry);
+    }
+
+    @Test
+    void jsonModeWritesJsonAndReadsCompactValues() {
+        CacheEntry entry = entry("written by a node already on compact");
+
+        assertThat(json.serialize(entry)[0]).isEqualTo((byte) '{');
+        assertThat(json.deserialize(compact.serialize(entry))).usingRecursiveComparison().isEqualTo(entry);
+    }
+
+    @Test
+    void valueFromANewerFormatVersionReadsAsAbsent() {
+        byte[] bytes = compact.serialize(entry("short content"));
+        bytes[1] = CompactRedisSerializer.FORMAT_VERSION + 1;
+
+        assertThat(compact.deserialize(bytes)).isNull();
+    }
+
+    @Test
+    void nullRoundTripsThroughAnEmptyPayload() {
+        assertThat(compact.serialize(null)).isEmpty();
+        assertThat(compact.deserialize(new byte[0])).isNull();
+        assertThat(compact.deserialize(null)).isNull();
+    }
+
+    private static CacheEntry entry(String content) {
+        LocalDateTime createdAt = LocalDateTime.of(2024, 1, 2, 3, 4, 5);
+        PostDto post = new PostDto(42L, "title", content, 7L, createdAt, createdAt);
+        return new CacheEntry(post, 12, 1_700_000_000_000L);
+    }
+
+    private static RedisSerializer<Object> cacheValueSerializer(String serializer) {
+        RedisConfig redisConfig = new RedisConfig();
+        ReflectionTestUtils.setField(redisConfig, "serializer", serializer);
+        ReflectionTestUtils.setField(redisConfig, "compressionThreshold", DataSize.ofBytes(COMPRESSION_THRESHOLD));
+        return redisConfig.cacheValueSerializer();
+    }
+}
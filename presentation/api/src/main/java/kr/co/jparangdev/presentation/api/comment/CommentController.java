@@ -1,13 +1,18 @@
 package kr.co.jparangdev.presentation.api.comment;
 
+import kr.co.jparangdev.application.common.bulk.BulkItemResult;
+import kr.co.jparangdev.application.common.pagination.CursorPage;
 import kr.co.jparangdev.application.comment.CreateCommentCommand;
 import kr.co.jparangdev.application.comment.UpdateCommentCommand;
 import kr.co.jparangdev.application.comment.CommentDto;
 import kr.co.jparangdev.application.comment.CommentUseCase;
+import kr.co.jparangdev.presentation.api.common.NdjsonWriter;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -17,6 +22,7 @@ import java.util.List;
 public class CommentController {
 
     private final CommentUseCase commentService;
+    private final NdjsonWriter ndjsonWriter;
 
     @PostMapping
     public ResponseEntity<CommentDto> createComment(@RequestBody CreateCommentCommand command) {
@@ -24,6 +30,12 @@ public class CommentController {
         return new ResponseEntity<>(comment, HttpStatus.CREATED);
     }
 
+    @PostMapping("/bulk")
+    public ResponseEntity<List<BulkItemResult<CommentDto>>> createComments(@RequestBody List<CreateCommentCommand> commands) {
+        List<BulkItemResult<CommentDto>> results = commentService.createComments(commands);
+        return ResponseEntity.ok(results);
+    }
+
     @PutMapping("/{id}")
     public ResponseEntity<CommentDto> updateComment(@PathVariable Long id, @RequestBody UpdateCommentCommand command) {
         command.setId(id);
@@ -38,11 +50,19 @@ public class CommentController {
     }
 
     @GetMapping("/post/{postId}")
-    public ResponseEntity<List<CommentDto>> getCommentsByPostId(@PathVariable Long postId) {
-        List<CommentDto> comments = commentService.getCommentsByPostId(postId);
+    public ResponseEntity<CursorPage<CommentDto>> getCommentsByPostId(
+            @PathVariable Long postId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int limit) {
+        CursorPage<CommentDto> comments = commentService.getCommentsByPostId(postId, cursor, limit);
         return ResponseEntity.ok(comments);
     }
 
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportComments() {
+        return ndjsonWriter.stream(commentService::exportComments);
+    }
+
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteComment(@PathVariable Long id) {
         commentService.deleteComment(id);
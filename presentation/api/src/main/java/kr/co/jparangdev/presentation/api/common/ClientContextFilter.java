@@ -0,0 +1,33 @@
+package kr.co.jparangdev.presentation.api.common;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import kr.co.jparangdev.application.common.context.ClientContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Identifies the calling client from the {@value #CLIENT_ID_HEADER} header, falling back
+ * to the remote address, and exposes it through {@link ClientContextHolder} for the request.
+ */
+@Component
+public class ClientContextFilter extends OncePerRequestFilter {
+
+    public static final String CLIENT_ID_HEADER = "X-Client-Id";
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String clientId = request.getHeader(CLIENT_ID_HEADER);
+        ClientContextHolder.setClientId(clientId != null && !clientId.isBlank() ? clientId : request.getRemoteAddr());
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            ClientContextHolder.clear();
+        }
+    }
+}
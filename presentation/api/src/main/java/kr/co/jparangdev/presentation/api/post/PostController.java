@@ -1,13 +1,18 @@
 package kr.co.jparangdev.presentation.api.post;
 
+import kr.co.jparangdev.application.common.bulk.BulkItemResult;
+import kr.co.jparangdev.application.common.pagination.CursorPage;
 import kr.co.jparangdev.application.post.CreatePostCommand;
 import kr.co.jparangdev.application.post.UpdatePostCommand;
 import kr.co.jparangdev.application.post.PostDto;
 import kr.co.jparangdev.application.post.PostUseCase;
+import kr.co.jparangdev.presentation.api.common.NdjsonWriter;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -17,6 +22,7 @@ import java.util.List;
 public class PostController {
 
     private final PostUseCase postUseCase;
+    private final NdjsonWriter ndjsonWriter;
 
     @PostMapping
     public ResponseEntity<PostDto> createPost(@RequestBody CreatePostCommand command) {
@@ -24,6 +30,12 @@ public class PostController {
         return new ResponseEntity<>(post, HttpStatus.CREATED);
     }
 
+    @PostMapping("/bulk")
+    public ResponseEntity<List<BulkItemResult<PostDto>>> createPosts(@RequestBody List<CreatePostCommand> commands) {
+        List<BulkItemResult<PostDto>> results = postUseCase.createPosts(commands);
+        return ResponseEntity.ok(results);
+    }
+
     @PutMapping("/{id}")
     public ResponseEntity<PostDto> updatePost(@PathVariable Long id, @RequestBody UpdatePostCommand command) {
         command.setId(id);
@@ -38,11 +50,18 @@ public class PostController {
     }
 
     @GetMapping
-    public ResponseEntity<List<PostDto>> getAllPosts() {
-        List<PostDto> posts = postUseCase.getAllPosts();
+    public ResponseEntity<CursorPage<PostDto>> getPosts(
+            @RequestParam(required = false) Long after,
+            @RequestParam(defaultValue = "20") int limit) {
+        CursorPage<PostDto> posts = postUseCase.getPosts(after, limit);
         return ResponseEntity.ok(posts);
     }
 
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportPosts() {
+        return ndjsonWriter.stream(postUseCase::exportPosts);
+    }
+
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deletePost(@PathVariable Long id) {
         postUseCase.deletePost(id);
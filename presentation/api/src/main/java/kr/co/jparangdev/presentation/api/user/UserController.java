@@ -1,13 +1,18 @@
 package kr.co.jparangdev.presentation.api.user;
 
+import kr.co.jparangdev.application.common.bulk.BulkItemResult;
+import kr.co.jparangdev.application.common.pagination.CursorPage;
 import kr.co.jparangdev.application.user.CreateUserCommand;
 import kr.co.jparangdev.application.user.UpdateUserCommand;
 import kr.co.jparangdev.application.user.UserDto;
 import kr.co.jparangdev.application.user.UserUseCase;
+import kr.co.jparangdev.presentation.api.common.NdjsonWriter;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -17,6 +22,7 @@ import java.util.List;
 public class UserController {
 
     private final UserUseCase userUseCase;
+    private final NdjsonWriter ndjsonWriter;
 
     @PostMapping
     public ResponseEntity<UserDto> createUser(@RequestBody CreateUserCommand command) {
@@ -24,6 +30,12 @@ public class UserController {
         return new ResponseEntity<>(user, HttpStatus.CREATED);
     }
 
+    @PostMapping("/bulk")
+    public ResponseEntity<List<BulkItemResult<UserDto>>> createUsers(@RequestBody List<CreateUserCommand> commands) {
+        List<BulkItemResult<UserDto>> results = userUseCase.createUsers(commands);
+        return ResponseEntity.ok(results);
+    }
+
     @PutMapping("/{id}")
     public ResponseEntity<UserDto> updateUser(@PathVariable Long id, @RequestBody UpdateUserCommand command) {
         command.setId(id);
@@ -38,11 +50,18 @@ public class UserController {
     }
 
     @GetMapping
-    public ResponseEntity<List<UserDto>> getAllUsers() {
-        List<UserDto> users = userUseCase.getAllUsers();
+    public ResponseEntity<CursorPage<UserDto>> getUsers(
+            @RequestParam(required = false) Long after,
+            @RequestParam(defaultValue = "20") int limit) {
+        CursorPage<UserDto> users = userUseCase.getUsers(after, limit);
         return ResponseEntity.ok(users);
     }
 
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportUsers() {
+        return ndjsonWriter.stream(userUseCase::exportUsers);
+    }
+
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteUser(@PathVariable Long id) {
         userUseCase.deleteUser(id);
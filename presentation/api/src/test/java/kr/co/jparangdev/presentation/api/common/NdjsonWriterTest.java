@@ -0,0 +1,39 @@
+package kr.co.jparangdev.presentation.api.common;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NdjsonWriterTest {
+
+    private final NdjsonWriter ndjsonWriter = new NdjsonWriter(new ObjectMapper());
+
+    @Test
+    void writesOneObjectPerNewlineTerminatedLine() throws IOException {
+        String body = write(sink -> {
+            sink.accept(Map.of("id", 1));
+            sink.accept(Map.of("id", 2));
+            sink.accept(Map.of("id", 3));
+        });
+
+        assertThat(body).isEqualTo("{\"id\":1}\n{\"id\":2}\n{\"id\":3}\n");
+    }
+
+    @Test
+    void writesNothingForAnEmptySource() throws IOException {
+        assertThat(write(sink -> { })).isEmpty();
+    }
+
+    private String write(Consumer<Consumer<Map<String, Integer>>> source) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ndjsonWriter.stream(source).getBody().writeTo(out);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+}
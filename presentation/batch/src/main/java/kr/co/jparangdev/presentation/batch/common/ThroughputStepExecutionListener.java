@@ -0,0 +1,36 @@
+package kr.co.jparangdev.presentation.batch.common;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.StepExecutionListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Records the write throughput of a step under {@link #ITEMS_PER_SECOND} in its
+ * execution context, which is persisted with the rest of the step execution metadata.
+ * On a partitioned manager step the write count is the sum over all partitions.
+ */
+@Slf4j
+public class ThroughputStepExecutionListener implements StepExecutionListener {
+
+    public static final String ITEMS_PER_SECOND = "itemsPerSecond";
+
+    @Override
+    public ExitStatus afterStep(StepExecution stepExecution) {
+        LocalDateTime startTime = stepExecution.getStartTime();
+        if (startTime == null) {
+            return null;
+        }
+        long elapsedMillis = Math.max(1, Duration.between(startTime, LocalDateTime.now()).toMillis());
+        double itemsPerSecond = stepExecution.getWriteCount() * 1000.0 / elapsedMillis;
+
+        stepExecution.getExecutionContext().putDouble(ITEMS_PER_SECOND, itemsPerSecond);
+        log.info("Step '{}' wrote {} items in {} ms ({} items/s)", stepExecution.getStepName(),
+                stepExecution.getWriteCount(), elapsedMillis, String.format("%.1f", itemsPerSecond));
+        return null;
+    }
+}
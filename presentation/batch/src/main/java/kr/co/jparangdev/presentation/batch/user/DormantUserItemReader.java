@@ -0,0 +1,71 @@
+package kr.co.jparangdev.presentation.batch.user;
+
+import kr.co.jparangdev.application.user.UserBatchUseCase;
+import kr.co.jparangdev.domain.user.User;
+
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStreamReader;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Keyset reader over dormant candidates within one id range.
+ * The last id handed out is saved with every committed chunk, so a restarted
+ * partition resumes right after it instead of rescanning the range.
+ */
+public class DormantUserItemReader implements ItemStreamReader<User> {
+
+    private static final String LAST_ID_KEY = "dormantUser.lastId";
+
+    private final UserBatchUseCase userBatchUseCase;
+    private final LocalDateTime lastLoginBefore;
+    private final long maxId;
+    private final int pageSize;
+
+    private long lastId;
+    private Iterator<User> page = Collections.emptyIterator();
+    private boolean exhausted;
+
+    public DormantUserItemReader(UserBatchUseCase userBatchUseCase, LocalDateTime lastLoginBefore,
+            long minId, long maxId, int pageSize) {
+        this.userBatchUseCase = userBatchUseCase;
+        this.lastLoginBefore = lastLoginBefore;
+        this.maxId = maxId;
+        this.pageSize = pageSize;
+        this.lastId = minId - 1;
+    }
+
+    @Override
+    public void open(ExecutionContext executionContext) {
+        if (executionContext.containsKey(LAST_ID_KEY)) {
+            lastId = executionContext.getLong(LAST_ID_KEY);
+        }
+    }
+
+    @Override
+    public void update(ExecutionContext executionContext) {
+        executionContext.putLong(LAST_ID_KEY, lastId);
+    }
+
+    @Override
+    public User read() {
+        if (!page.hasNext()) {
+            if (exhausted) {
+                return null;
+            }
+            List<User> users = userBatchUseCase.findDormantCandidates(lastLoginBefore, lastId, maxId, pageSize);
+            exhausted = users.size() < pageSize;
+            if (users.isEmpty()) {
+                return null;
+            }
+            page = users.iterator();
+        }
+
+        User user = page.next();
+        lastId = user.getId();
+        return user;
+    }
+}
@@ -1,20 +1,33 @@
 package kr.co.jparangdev.presentation.batch.user;
 
 import kr.co.jparangdev.application.user.UserBatchUseCase;
+import kr.co.jparangdev.domain.user.User;
+import kr.co.jparangdev.presentation.batch.common.ThroughputStepExecutionListener;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.batch.core.Job;
 import org.springframework.batch.core.Step;
+import org.springframework.batch.core.configuration.annotation.StepScope;
 import org.springframework.batch.core.job.builder.JobBuilder;
 import org.springframework.batch.core.repository.JobRepository;
 import org.springframework.batch.core.step.builder.StepBuilder;
-import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.batch.item.ItemProcessor;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.transaction.PlatformTransactionManager;
 
+import java.time.LocalDateTime;
+
 /**
  * Configuration for the dormant user batch job.
+ * <p>
+ * The manager step splits dormant candidates by id range and runs one chunk-oriented
+ * worker step per range on a dedicated thread pool. Each worker saves its position with
+ * every committed chunk, so re-launching a failed execution with the same job parameters
+ * resumes where it stopped.
  */
 @Slf4j
 @Configuration
@@ -25,6 +38,15 @@ public class DormantUserJobConfig {
     private final PlatformTransactionManager transactionManager;
     private final UserBatchUseCase userBatchUseCase;
 
+    @Value("${batch.dormant-user.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${batch.dormant-user.grid-size:16}")
+    private int gridSize;
+
+    @Value("${batch.dormant-user.threads:4}")
+    private int threads;
+
     @Bean
     public Job dormantUserJob() {
         return new JobBuilder("dormantUserJob", jobRepository)
@@ -35,11 +57,58 @@ public class DormantUserJobConfig {
     @Bean
     public Step dormantUserStep() {
         return new StepBuilder("dormantUserStep", jobRepository)
-                .tasklet((contribution, chunkContext) -> {
-                    int processedCount = userBatchUseCase.processDormantUsers();
-                    log.info("Batch job 'dormantUserJob' processed {} users.", processedCount);
-                    return RepeatStatus.FINISHED;
-                }, transactionManager)
+                .partitioner("dormantUserWorkerStep", new DormantUserPartitioner(userBatchUseCase))
+                .step(dormantUserWorkerStep())
+                .gridSize(gridSize)
+                .taskExecutor(dormantUserTaskExecutor())
+                .listener(new ThroughputStepExecutionListener())
+                .build();
+    }
+
+    @Bean
+    public Step dormantUserWorkerStep() {
+        return new StepBuilder("dormantUserWorkerStep", jobRepository)
+                .<User, User>chunk(chunkSize, transactionManager)
+                .reader(dormantUserItemReader(null, null, null))
+                .processor(dormantUserItemProcessor())
+                .writer(dormantUserItemWriter())
                 .build();
     }
+
+    @Bean
+    @StepScope
+    public DormantUserItemReader dormantUserItemReader(
+            @Value("#{stepExecutionContext['" + DormantUserPartitioner.MIN_ID_KEY + "']}") Long minId,
+            @Value("#{stepExecutionContext['" + DormantUserPartitioner.MAX_ID_KEY + "']}") Long maxId,
+            @Value("#{stepExecutionContext['" + DormantUserPartitioner.LAST_LOGIN_BEFORE_KEY + "']}")
+            String lastLoginBefore) {
+        return new DormantUserItemReader(userBatchUseCase, LocalDateTime.parse(lastLoginBefore),
+                minId, maxId, chunkSize);
+    }
+
+    @Bean
+    public ItemProcessor<User, User> dormantUserItemProcessor() {
+        return user -> {
+            user.switchToDormant();
+            return user.getStatus() == User.Status.DORMANT ? user : null;
+        };
+    }
+
+    @Bean
+    public ItemWriter<User> dormantUserItemWriter() {
+        return chunk -> {
+            int updated = userBatchUseCase.saveDormantUsers(chunk.getItems());
+            log.debug("Switched {} of {} users to dormant status", updated, chunk.size());
+        };
+    }
+
+    @Bean
+    public ThreadPoolTaskExecutor dormantUserTaskExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setThreadNamePrefix("dormant-user-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        return executor;
+    }
 }
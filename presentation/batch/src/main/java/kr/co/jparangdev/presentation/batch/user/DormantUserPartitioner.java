@@ -0,0 +1,56 @@
+package kr.co.jparangdev.presentation.batch.user;
+
+import kr.co.jparangdev.application.common.pagination.IdRange;
+import kr.co.jparangdev.application.user.UserBatchUseCase;
+import kr.co.jparangdev.domain.user.User;
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.batch.core.partition.support.Partitioner;
+import org.springframework.batch.item.ExecutionContext;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Splits the id range of dormant candidates into contiguous slices, one per partition.
+ * The login threshold is fixed here once so every partition, including restarted ones,
+ * works against the same cut-off.
+ */
+@RequiredArgsConstructor
+public class DormantUserPartitioner implements Partitioner {
+
+    static final String MIN_ID_KEY = "minId";
+    static final String MAX_ID_KEY = "maxId";
+    static final String LAST_LOGIN_BEFORE_KEY = "lastLoginBefore";
+
+    private final UserBatchUseCase userBatchUseCase;
+
+    @Override
+    public Map<String, ExecutionContext> partition(int gridSize) {
+        LocalDateTime lastLoginBefore = LocalDateTime.now().minus(User.DORMANT_AFTER);
+        Map<String, ExecutionContext> partitions = new HashMap<>();
+
+        // An empty range still yields one partition so the step completes normally
+        IdRange range = userBatchUseCase.findDormantCandidateIdRange(lastLoginBefore)
+                .orElse(new IdRange(1, 0));
+        long span = range.getMaxId() - range.getMinId() + 1;
+        long sliceSize = Math.max(1, (span + gridSize - 1) / gridSize);
+
+        long minId = range.getMinId();
+        int index = 0;
+        do {
+            long maxId = Math.min(range.getMaxId(), minId + sliceSize - 1);
+
+            ExecutionContext context = new ExecutionContext();
+            context.putLong(MIN_ID_KEY, minId);
+            context.putLong(MAX_ID_KEY, maxId);
+            context.putString(LAST_LOGIN_BEFORE_KEY, lastLoginBefore.toString());
+            partitions.put("partition" + index++, context);
+
+            minId = maxId + 1;
+        } while (minId <= range.getMaxId());
+
+        return partitions;
+    }
+}
@@ -0,0 +1,44 @@
+package kr.co.jparangdev.presentation.worker.comment;
+
+import kr.co.jparangdev.application.comment.CommentCleanupUseCase;
+import kr.co.jparangdev.application.common.port.DistributedLockPort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Periodically deletes comments whose post no longer exists, covering deletions whose
+ * event was lost or ended up on the dead-letter topic, and comments created after their
+ * post's cleanup had already run. Only one worker sweeps at a time.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrphanedCommentSweeper {
+
+    private static final String LOCK_KEY = "worker:comment-orphan-sweep";
+    private static final Duration LOCK_LEASE = Duration.ofMinutes(30);
+
+    private final CommentCleanupUseCase commentCleanupUseCase;
+    private final DistributedLockPort distributedLockPort;
+
+    @Scheduled(fixedDelayString = "${worker.comment-cleanup.orphan-sweep-interval:PT1H}",
+            initialDelayString = "${worker.comment-cleanup.orphan-sweep-interval:PT1H}")
+    public void sweep() {
+        if (!distributedLockPort.tryLock(LOCK_KEY, Duration.ZERO, LOCK_LEASE)) {
+            log.debug("Another worker is sweeping orphaned comments");
+            return;
+        }
+        try {
+            int deleted = commentCleanupUseCase.deleteOrphanedComments();
+            if (deleted > 0) {
+                log.info("Deleted {} orphaned comments", deleted);
+            }
+        } finally {
+            distributedLockPort.unlock(LOCK_KEY);
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package kr.co.jparangdev.presentation.worker.config;
+
+import org.springframework.context.annotation.Import;
+
+import java.lang.annotation.*;
+
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@Import(WorkerPresentationModuleConfig.class)
+public @interface EnableWorkerPresentationModule {
+}
@@ -0,0 +1,11 @@
+package kr.co.jparangdev.presentation.worker.config;
+
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+@Configuration
+@EnableScheduling
+@ComponentScan(basePackages = "kr.co.jparangdev.presentation.worker")
+public class WorkerPresentationModuleConfig {
+}
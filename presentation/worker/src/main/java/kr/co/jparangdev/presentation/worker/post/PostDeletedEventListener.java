@@ -0,0 +1,29 @@
+package kr.co.jparangdev.presentation.worker.post;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kr.co.jparangdev.application.comment.CommentCleanupUseCase;
+import kr.co.jparangdev.application.post.PostDeletedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Deletes the comments of deleted posts in the background.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostDeletedEventListener {
+
+    private final CommentCleanupUseCase commentCleanupUseCase;
+    private final ObjectMapper objectMapper;
+
+    @KafkaListener(topics = PostDeletedEvent.TOPIC, groupId = "comment-cleanup")
+    public void onPostDeleted(String payload) throws JsonProcessingException {
+        PostDeletedEvent event = objectMapper.readValue(payload, PostDeletedEvent.class);
+        log.debug("Cleaning up comments of deleted post {}", event.getPostId());
+        commentCleanupUseCase.deleteCommentsOfPost(event.getPostId());
+    }
+}